@@ -0,0 +1,43 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking {@link SingleFlight}: calls for a key that arrive while one is in flight get that call's future instead
+ * of starting their own. Nothing is cached once the call has completed.
+ *
+ * @param <K> key identifying identical calls, typically the upstream URL
+ * @param <V> result of the call
+ */
+public class AsyncSingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<V> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, leader);
+            leader.completeExceptionally(e);
+            return leader;
+        }
+        started.whenComplete((value, failure) -> {
+            // Leave the map before completing so callers reacting to the result start a fresh call if they need one.
+            inFlight.remove(key, leader);
+            if (failure != null) {
+                leader.completeExceptionally(failure);
+            } else {
+                leader.complete(value);
+            }
+        });
+        return leader;
+    }
+}
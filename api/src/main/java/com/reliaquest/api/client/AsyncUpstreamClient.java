@@ -0,0 +1,212 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Non-blocking counterpart of the {@code RestTemplate} stack: JSON calls on the JDK {@link HttpClient}, paced by the
+ * same {@link UpstreamThrottle} and retried on 429 under the same rules as {@link ThrottlingInterceptor}.
+ *
+ * <p>No thread is held while a call is pending. Waiting for a permit and backing off are scheduled on a delayed
+ * executor, and error responses surface as the {@code HttpClientErrorException} and {@code HttpServerErrorException}
+ * that the blocking path throws, so both paths share one exception handler.
+ */
+@Slf4j
+public class AsyncUpstreamClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    // Null when throttling is disabled.
+    private final UpstreamThrottle throttle;
+    private final Duration requestTimeout;
+    private final Duration maxWait;
+    private final int maxRetries;
+    private final Duration baseBackoff;
+    private final Executor executor;
+    private final UpstreamMetrics metrics;
+
+    public AsyncUpstreamClient(
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            UpstreamThrottle throttle,
+            Duration requestTimeout,
+            Duration maxWait,
+            int maxRetries,
+            Duration baseBackoff,
+            Executor executor,
+            UpstreamMetrics metrics) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.throttle = throttle;
+        this.requestTimeout = requestTimeout;
+        this.maxWait = maxWait;
+        this.maxRetries = maxRetries;
+        this.baseBackoff = baseBackoff;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    public <T> CompletableFuture<T> get(String url, Class<T> responseType) {
+        return send("GET", url, null, responseType);
+    }
+
+    /**
+     * Sends {@code body} as JSON (no body when {@code null}) and reads the response as {@code responseType}.
+     *
+     * @return completes with {@code null} for an empty response, or exceptionally with {@code HttpClientErrorException}
+     *     or {@code HttpServerErrorException} for a 4xx or 5xx, and {@code ResourceAccessException} for I/O failures
+     */
+    public <T> CompletableFuture<T> send(String method, String url, Object body, Class<T> responseType) {
+        HttpRequest request;
+        try {
+            request = request(method, url, body);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new RestClientException("Could not write request body", e));
+        }
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        return attempt(request, 0, deadline).thenApply(response -> read(response, responseType));
+    }
+
+    private HttpRequest request(String method, String url, Object body) throws JsonProcessingException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> attempt(HttpRequest request, int attempt, long deadline) {
+        long wait = throttle == null ? 0 : throttle.reserve(deadline);
+        if (wait < 0) {
+            log.warn("No upstream budget for {} {} within {}", request.method(), request.uri(), maxWait);
+            metrics.recordRejection(request.method(), request.uri());
+            return CompletableFuture.failedFuture(ThrottlingInterceptor.localTooManyRequests(throttle));
+        }
+        return after(wait, () -> {
+            // A 429 that another call received while this one waited closes the bucket again, and this permit
+            // predates it: queue up anew rather than send inside the new cool-down.
+            if (throttle != null && throttle.remainingCooldown().isPositive()) {
+                return attempt(request, attempt, deadline);
+            }
+            return exchange(request).thenCompose(response -> onResponse(request, response, attempt, deadline));
+        });
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> onResponse(
+            HttpRequest request, HttpResponse<byte[]> response, int attempt, long deadline) {
+        if (throttle == null) {
+            return CompletableFuture.completedFuture(response);
+        }
+        if (response.statusCode() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            throttle.onSuccess();
+            return CompletableFuture.completedFuture(response);
+        }
+        throttle.onThrottled(ThrottlingInterceptor.retryAfter(headers(response)));
+        long backoff = ThrottlingInterceptor.jitteredBackoff(baseBackoff, attempt);
+        if (attempt >= maxRetries || !ThrottlingInterceptor.retryFits(throttle, backoff, deadline)) {
+            log.warn("Upstream throttled {} {} after {} attempt(s)", request.method(), request.uri(), attempt + 1);
+            return CompletableFuture.completedFuture(response);
+        }
+        metrics.recordRetry(request.method(), request.uri());
+        log.debug(
+                "Upstream throttled {} {}, retrying in {} ms",
+                request.method(),
+                request.uri(),
+                TimeUnit.NANOSECONDS.toMillis(backoff));
+        return after(backoff, () -> attempt(request, attempt + 1, deadline));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> exchange(HttpRequest request) {
+        long started = System.nanoTime();
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    metrics.recordAttempt(
+                            request.method(),
+                            request.uri(),
+                            response != null ? response.statusCode() : -1,
+                            System.nanoTime() - started);
+                    if (failure == null) {
+                        return response;
+                    }
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                    if (cause instanceof IOException) {
+                        throw new ResourceAccessException(
+                                "I/O error on " + request.method() + " request for \"" + request.uri() + "\": "
+                                        + cause.getMessage(),
+                                (IOException) cause);
+                    }
+                    throw failure instanceof CompletionException completion
+                            ? completion
+                            : new CompletionException(failure);
+                });
+    }
+
+    private <T> CompletableFuture<T> after(long delayNanos, Supplier<CompletableFuture<T>> next) {
+        if (delayNanos <= 0) {
+            return next.get();
+        }
+        return CompletableFuture.runAsync(
+                        () -> {}, CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor))
+                .thenCompose(ignored -> next.get());
+    }
+
+    private <T> T read(HttpResponse<byte[]> response, Class<T> responseType) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.isError()) {
+            throw error(status, response);
+        }
+        byte[] body = response.body();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (IOException e) {
+            throw new RestClientException("Could not read upstream response as " + responseType.getSimpleName(), e);
+        }
+    }
+
+    private static RestClientException error(HttpStatusCode status, HttpResponse<byte[]> response) {
+        HttpStatus known = HttpStatus.resolve(status.value());
+        String statusText = known != null ? known.getReasonPhrase() : "";
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(
+                    status, statusText, headers(response), response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(
+                status, statusText, headers(response), response.body(), StandardCharsets.UTF_8);
+    }
+
+    private static HttpHeaders headers(HttpResponse<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        return headers;
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Runs a batch of upstream calls on an executor with at most {@code parallelism} of them in flight. Submission blocks
+ * the calling thread while all slots are taken, so a large batch never floods the executor or the upstream.
+ */
+public final class BoundedParallelCalls {
+
+    private BoundedParallelCalls() {}
+
+    /**
+     * @return one future per call, in the order the calls were given
+     */
+    public static <T> List<CompletableFuture<T>> submitAll(
+            List<? extends Supplier<T>> calls, int parallelism, Executor executor) {
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        List<CompletableFuture<T>> futures = new ArrayList<>(calls.size());
+        for (Supplier<T> call : calls) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<T> future;
+            try {
+                future = CompletableFuture.supplyAsync(call, executor);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                futures.forEach(submitted -> submitted.cancel(false));
+                throw e;
+            }
+            futures.add(future.whenComplete((result, failure) -> permits.release()));
+        }
+        return futures;
+    }
+
+    /**
+     * Waits for a submitted call and rethrows its own failure rather than the {@link CompletionException} wrapper, so
+     * callers handle upstream errors exactly as they would for a call made on their own thread.
+     */
+    public static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
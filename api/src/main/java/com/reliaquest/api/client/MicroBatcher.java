@@ -0,0 +1,154 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects concurrent calls into batches and runs each batch as one upstream call, fanning the results back out.
+ *
+ * <p>A batch is sent once {@code maxBatchSize} calls have joined it, by the caller that filled it, or {@code window}
+ * after its first call, on {@code executor}, whichever comes first. The batch call must return one result per input, in
+ * input order. A batch the window closed on with a single call in it is sent with {@code singleCall} instead. So is
+ * each input of a batch that failed as a whole with a failure {@code isolateFailure} accepts (typically a request
+ * rejected because one input was invalid), in parallel on {@code executor}, so only the offending callers see the
+ * error.
+ *
+ * @param <I> input of a single call
+ * @param <O> result of a single call
+ */
+@Slf4j
+public class MicroBatcher<I, O> {
+    private final Function<List<I>, List<O>> batchCall;
+    private final Function<I, O> singleCall;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final Executor flushExecutor;
+    private final Predicate<Throwable> isolateFailure;
+
+    private final Object lock = new Object();
+    // Guarded by lock: the batch new calls join; replaced whenever it is sent.
+    private Batch<I, O> open = new Batch<>();
+
+    public MicroBatcher(
+            Function<List<I>, List<O>> batchCall,
+            Function<I, O> singleCall,
+            int maxBatchSize,
+            Duration window,
+            Executor executor,
+            Predicate<Throwable> isolateFailure) {
+        this.batchCall = batchCall;
+        this.singleCall = singleCall;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.executor = executor;
+        this.flushExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+        this.isolateFailure = isolateFailure;
+    }
+
+    /**
+     * Runs {@code input} as part of the next batch and waits for its result; failures are rethrown as the batch call
+     * threw them.
+     */
+    public O call(I input) {
+        return BoundedParallelCalls.join(submit(input));
+    }
+
+    public CompletableFuture<O> submit(I input) {
+        CompletableFuture<O> result = new CompletableFuture<>();
+        Batch<I, O> full = null;
+        boolean opened;
+        Batch<I, O> joined;
+        synchronized (lock) {
+            joined = open;
+            joined.inputs.add(input);
+            joined.results.add(result);
+            opened = joined.inputs.size() == 1;
+            if (joined.inputs.size() >= maxBatchSize) {
+                full = joined;
+                open = new Batch<>();
+            }
+        }
+        if (full != null) {
+            send(full);
+        } else if (opened) {
+            flushExecutor.execute(() -> flush(joined));
+        }
+        return result;
+    }
+
+    private void flush(Batch<I, O> batch) {
+        synchronized (lock) {
+            if (open != batch) {
+                return; // Already sent because it filled up before the window closed.
+            }
+            open = new Batch<>();
+        }
+        send(batch);
+    }
+
+    private void send(Batch<I, O> batch) {
+        if (batch.inputs.size() == 1) {
+            sendAlone(batch.inputs.get(0), batch.results.get(0));
+            return;
+        }
+        try {
+            complete(batch.results, batchCall.apply(batch.inputs));
+        } catch (RuntimeException | Error e) {
+            if (isolateFailure.test(e)) {
+                log.debug("Batch of {} failed as a whole, retrying its inputs one by one", batch.inputs.size(), e);
+                retryAlone(batch);
+            } else {
+                batch.results.forEach(result -> result.completeExceptionally(e));
+            }
+        }
+    }
+
+    /*
+     * Hands every input but the last to the executor and sends the last on this thread, so the retries take about as
+     * long as one call rather than one per input.
+     */
+    private void retryAlone(Batch<I, O> batch) {
+        int last = batch.inputs.size() - 1;
+        for (int i = 0; i < last; i++) {
+            I input = batch.inputs.get(i);
+            CompletableFuture<O> result = batch.results.get(i);
+            try {
+                executor.execute(() -> sendAlone(input, result));
+            } catch (RejectedExecutionException e) {
+                sendAlone(input, result);
+            }
+        }
+        sendAlone(batch.inputs.get(last), batch.results.get(last));
+    }
+
+    private void sendAlone(I input, CompletableFuture<O> result) {
+        try {
+            result.complete(singleCall.apply(input));
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static <O> void complete(List<CompletableFuture<O>> results, List<O> outputs) {
+        if (outputs == null || outputs.size() != results.size()) {
+            throw new IllegalStateException("Batch call returned "
+                    + (outputs == null ? "no results" : outputs.size() + " results")
+                    + " for " + results.size() + " inputs");
+        }
+        for (int i = 0; i < results.size(); i++) {
+            results.get(i).complete(outputs.get(i));
+        }
+    }
+
+    private static final class Batch<I, O> {
+        private final List<I> inputs = new ArrayList<>();
+        private final List<CompletableFuture<O>> results = new ArrayList<>();
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Asks for Smile ahead of JSON. {@code RestTemplate} accepts both once the Smile converter is on the classpath, but it
+ * lists JSON first and the server answers with the first type it can produce. Request bodies stay JSON, and requests
+ * that accept only JSON, such as the streamed list reads, are left alone.
+ */
+public class SmileAcceptInterceptor implements ClientHttpRequestInterceptor {
+    static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        List<MediaType> accept = headers.getAccept();
+        if (accept.contains(SMILE) && !accept.get(0).equals(SMILE)) {
+            List<MediaType> preferred = new ArrayList<>(accept.size());
+            preferred.add(SMILE);
+            accept.stream().filter(type -> !type.equals(SMILE)).forEach(preferred::add);
+            headers.setAccept(preferred);
+        }
+        return execution.execute(request, body);
+    }
+}
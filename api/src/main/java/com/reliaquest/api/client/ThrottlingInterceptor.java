@@ -0,0 +1,167 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Paces every upstream call through an {@link UpstreamThrottle} and retries 429s with jittered exponential backoff,
+ * but only while the retry can still complete before the caller's deadline ({@code maxWait} after the call started).
+ *
+ * <p>A call that cannot get a permit in time fails fast with a local 429 instead of spending upstream budget on a
+ * request that would be rejected anyway, and a 429 whose {@code Retry-After} outlasts the deadline is returned as is
+ * rather than slept on.
+ *
+ * <p>Each attempt is timed here, as a retry executes the request again through the rest of the chain. With Spring's
+ * {@code InterceptingClientHttpRequest} that rest has already been walked by the first attempt, so the throttle must
+ * be the last interceptor: a retry goes straight to the request factory.
+ */
+@Slf4j
+public class ThrottlingInterceptor implements ClientHttpRequestInterceptor {
+    private static final String THROTTLED_BODY = "Upstream rate limit reached. Please try again later.";
+
+    private final UpstreamThrottle throttle;
+    private final Duration maxWait;
+    private final int maxRetries;
+    private final Duration baseBackoff;
+    private final UpstreamMetrics metrics;
+
+    public ThrottlingInterceptor(UpstreamThrottle throttle, Duration maxWait, int maxRetries, Duration baseBackoff) {
+        this(throttle, maxWait, maxRetries, baseBackoff, UpstreamMetrics.none());
+    }
+
+    public ThrottlingInterceptor(
+            UpstreamThrottle throttle,
+            Duration maxWait,
+            int maxRetries,
+            Duration baseBackoff,
+            UpstreamMetrics metrics) {
+        this.throttle = throttle;
+        this.maxWait = maxWait;
+        this.maxRetries = maxRetries;
+        this.baseBackoff = baseBackoff;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        for (int attempt = 0; ; attempt++) {
+            // A 429 that another call received while this one waited closes the bucket again, and this permit predates
+            // it: queue up anew rather than send inside the new cool-down.
+            do {
+                long wait = throttle.reserve(deadline);
+                if (wait < 0) {
+                    throw throttledLocally(request);
+                }
+                sleep(wait);
+            } while (throttle.remainingCooldown().isPositive());
+
+            ClientHttpResponse response = UpstreamMetricsInterceptor.timed(metrics, request, body, execution);
+            if (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                throttle.onSuccess();
+                return response;
+            }
+
+            throttle.onThrottled(retryAfter(response.getHeaders()));
+            long backoff = jitteredBackoff(baseBackoff, attempt);
+            if (attempt >= maxRetries || !retryFits(throttle, backoff, deadline)) {
+                log.warn(
+                        "Upstream throttled {} {} after {} attempt(s)",
+                        request.getMethod(),
+                        request.getURI(),
+                        attempt + 1);
+                return response;
+            }
+            response.close();
+            metrics.recordRetry(request.getMethod().name(), request.getURI());
+            log.debug(
+                    "Upstream throttled {} {}, retrying in {} ms",
+                    request.getMethod(),
+                    request.getURI(),
+                    TimeUnit.NANOSECONDS.toMillis(backoff));
+            sleep(backoff);
+        }
+    }
+
+    private HttpClientErrorException throttledLocally(HttpRequest request) {
+        log.warn("No upstream budget for {} {} within {}", request.getMethod(), request.getURI(), maxWait);
+        metrics.recordRejection(request.getMethod().name(), request.getURI());
+        return localTooManyRequests(throttle);
+    }
+
+    /**
+     * The 429 reported to the caller when no permit can be had in time, with a {@code Retry-After} covering the
+     * remaining cool-down.
+     */
+    static HttpClientErrorException localTooManyRequests(UpstreamThrottle throttle) {
+        HttpHeaders headers = new HttpHeaders();
+        long retryAfterSeconds = (long) Math.ceil(throttle.remainingCooldown().toMillis() / 1000d);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        return HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS,
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                headers,
+                THROTTLED_BODY.getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether a retry after {@code backoffNanos} can still be sent by {@code deadlineNanos}. The retry also has to wait
+     * out the cool-down the 429 just started, so a {@code Retry-After} beyond the deadline fails it straight away.
+     */
+    static boolean retryFits(UpstreamThrottle throttle, long backoffNanos, long deadlineNanos) {
+        long delay = Math.max(backoffNanos, throttle.remainingCooldown().toNanos());
+        return System.nanoTime() + delay <= deadlineNanos;
+    }
+
+    static long jitteredBackoff(Duration baseBackoff, int attempt) {
+        long ceiling = baseBackoff.toNanos() << Math.min(attempt, 20);
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(
+                        ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for upstream rate limit");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for calls to the mock employee server, shared by the blocking and the non-blocking client.
+ *
+ * <ul>
+ *   <li>{@code employee.upstream.requests}: timer per HTTP attempt, tagged with the {@code call} made and the response
+ *       {@code status} ({@code IO_ERROR} when none arrived), so 429s and retried attempts are counted individually
+ *   <li>{@code employee.upstream.retries}: attempts repeated after a 429
+ *   <li>{@code employee.upstream.rejections}: calls failed locally with a 429 because the throttle had no permit
+ * </ul>
+ *
+ * <p>{@code call} names the repository's upstream call: {@code list}, {@code page}, {@code changes}, {@code get},
+ * {@code create}, {@code bulk-create} or {@code delete}.
+ */
+public class UpstreamMetrics {
+    private final MeterRegistry registry;
+    private final String basePath;
+
+    public UpstreamMetrics(MeterRegistry registry, String baseUrl) {
+        this.registry = registry;
+        this.basePath = URI.create(baseUrl).getPath();
+    }
+
+    /**
+     * Metrics that are recorded nowhere, for clients built outside a Spring context.
+     */
+    public static UpstreamMetrics none() {
+        return new UpstreamMetrics(new CompositeMeterRegistry(), "/");
+    }
+
+    /**
+     * @param status HTTP status of the response, or -1 when the attempt failed without one
+     */
+    public void recordAttempt(String method, URI uri, int status, long durationNanos) {
+        Timer.builder("employee.upstream.requests")
+                .description("Requests to the mock employee server, one per attempt")
+                .tag("call", call(method, uri))
+                .tag("status", status < 0 ? "IO_ERROR" : String.valueOf(status))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetry(String method, URI uri) {
+        counter("employee.upstream.retries", "Attempts repeated after a 429", method, uri).increment();
+    }
+
+    public void recordRejection(String method, URI uri) {
+        counter("employee.upstream.rejections", "Calls refused locally for lack of upstream budget", method, uri)
+                .increment();
+    }
+
+    private Counter counter(String name, String description, String method, URI uri) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("call", call(method, uri))
+                .register(registry);
+    }
+
+    String call(String method, URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        String rest = path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+        if (rest.isEmpty() || rest.equals("/")) {
+            return switch (method) {
+                case "GET" -> "list";
+                case "POST" -> "create";
+                case "DELETE" -> "delete";
+                default -> method.toLowerCase();
+            };
+        }
+        if (rest.equals("/page")) {
+            return "page";
+        }
+        if (rest.equals("/changes")) {
+            return "changes";
+        }
+        if (rest.equals("/bulk")) {
+            return "bulk-create";
+        }
+        return method.equals("GET") ? "get" : method.toLowerCase();
+    }
+}
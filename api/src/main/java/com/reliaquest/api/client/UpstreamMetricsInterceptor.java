@@ -0,0 +1,40 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Times every HTTP attempt of the {@code RestTemplate} until its response headers arrive, for when the upstream is not
+ * throttled. {@link ThrottlingInterceptor} times its attempts itself: a retry re-enters the same execution, which has
+ * already passed every interceptor registered after the throttle, so one placed there would only see first attempts.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+    private final UpstreamMetrics metrics;
+
+    public UpstreamMetricsInterceptor(UpstreamMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        return timed(metrics, request, body, execution);
+    }
+
+    static ClientHttpResponse timed(
+            UpstreamMetrics metrics, HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long started = System.nanoTime();
+        int status = -1;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = response.getStatusCode().value();
+            return response;
+        } finally {
+            metrics.recordAttempt(request.getMethod().name(), request.getURI(), status, System.nanoTime() - started);
+        }
+    }
+}
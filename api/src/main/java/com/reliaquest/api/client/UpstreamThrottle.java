@@ -0,0 +1,119 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive token bucket pacing outbound calls to the mock employee server.
+ *
+ * <p>The upstream never advertises its budget, so it is learned from responses: every success raises the refill rate
+ * additively, every 429 halves it and closes the bucket for a cool-down (the {@code Retry-After} the server sent, or an
+ * exponentially growing default while 429s keep coming). During a cool-down exactly one probe is let through once it
+ * ends, so the throttle never hammers a server that is still inside its backoff window.
+ *
+ * <p>A permit reserved before a cool-down started may come due inside it. Callers therefore check
+ * {@link #remainingCooldown()} once their wait is over and reserve again if the bucket has closed in the meantime.
+ */
+public class UpstreamThrottle {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double rateIncrease;
+    private final double burst;
+    private final Duration baseCooldown;
+    private final Duration maxCooldown;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    // Tokens accrue from this instant; it lies in the future while a cool-down is in effect.
+    private long refilledAtNanos;
+    private int consecutiveThrottles;
+
+    public UpstreamThrottle(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            double rateIncrease,
+            int burst,
+            Duration baseCooldown,
+            Duration maxCooldown,
+            LongSupplier nanoClock) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rateIncrease = rateIncrease;
+        this.burst = burst;
+        this.baseCooldown = baseCooldown;
+        this.maxCooldown = maxCooldown;
+        this.nanoClock = nanoClock;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.tokens = burst;
+        this.refilledAtNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves a permit if one becomes available no later than {@code deadlineNanos}.
+     *
+     * @return nanoseconds the caller has to wait before using its permit, or {@code -1} if none is available in time,
+     *     in which case nothing was reserved
+     */
+    public synchronized long reserve(long deadlineNanos) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        long readyAt = Math.max(now, refilledAtNanos);
+        if (tokens < 1) {
+            readyAt += (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+        }
+        if (readyAt > deadlineNanos) {
+            return -1;
+        }
+        // Tokens may go negative: later callers then queue up behind this reservation.
+        tokens -= 1;
+        return readyAt - now;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveThrottles = 0;
+        rate = Math.min(maxRate, rate + rateIncrease);
+    }
+
+    /**
+     * Records a 429 from the upstream.
+     *
+     * @param retryAfter the delay the upstream asked for, or {@code null} if it didn't say
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        long now = nanoClock.getAsLong();
+        consecutiveThrottles++;
+        rate = Math.max(minRate, rate / 2);
+        Duration cooldown = retryAfter != null ? retryAfter : defaultCooldown();
+        refilledAtNanos = Math.max(refilledAtNanos, now + cooldown.toNanos());
+        // Keep any debt from reservations already handed out, so that calls queued behind them stay behind them.
+        tokens = Math.min(tokens, 1);
+    }
+
+    /**
+     * Time until the bucket reopens, zero if it is open.
+     */
+    public synchronized Duration remainingCooldown() {
+        return Duration.ofNanos(Math.max(0, refilledAtNanos - nanoClock.getAsLong()));
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        if (now > refilledAtNanos) {
+            tokens = Math.min(burst, tokens + (now - refilledAtNanos) * rate / NANOS_PER_SECOND);
+            refilledAtNanos = now;
+        }
+    }
+
+    private Duration defaultCooldown() {
+        int doublings = Math.min(consecutiveThrottles - 1, 30);
+        Duration cooldown = baseCooldown.multipliedBy(1L << doublings);
+        return cooldown.compareTo(maxCooldown) > 0 ? maxCooldown : cooldown;
+    }
+}
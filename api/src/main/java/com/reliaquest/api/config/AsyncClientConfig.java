@@ -0,0 +1,53 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.AsyncUpstreamClient;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamThrottle;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Upstream client for the non-blocking service mode. It shares the throttle and timeouts of the blocking client;
+ * the JDK client keeps its own pool of keep-alive connections.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "async")
+public class AsyncClientConfig {
+
+    @Bean
+    public HttpClient upstreamAsyncHttpClient(
+            UpstreamClientProperties properties, @Qualifier("upstreamExecutor") ExecutorService upstreamExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(upstreamExecutor)
+                .build();
+    }
+
+    @Bean
+    public AsyncUpstreamClient asyncUpstreamClient(
+            HttpClient upstreamAsyncHttpClient,
+            ObjectMapper objectMapper,
+            ObjectProvider<UpstreamThrottle> upstreamThrottle,
+            UpstreamMetrics upstreamMetrics,
+            UpstreamClientProperties properties,
+            @Qualifier("upstreamExecutor") ExecutorService upstreamExecutor) {
+        UpstreamClientProperties.Throttle settings = properties.getThrottle();
+        return new AsyncUpstreamClient(
+                upstreamAsyncHttpClient,
+                objectMapper,
+                upstreamThrottle.getIfAvailable(),
+                properties.getReadTimeout(),
+                settings.getMaxWait(),
+                settings.getMaxRetries(),
+                settings.getBaseBackoff(),
+                upstreamExecutor,
+                upstreamMetrics);
+    }
+}
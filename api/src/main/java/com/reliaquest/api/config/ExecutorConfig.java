@@ -0,0 +1,27 @@
+package com.reliaquest.api.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class ExecutorConfig {
+
+    /*
+     * Runs background work against the mock employee server (snapshot refreshes and the like) so that
+     * request threads never wait on it. In virtual-thread mode every task gets its own virtual thread,
+     * matching the Tomcat request threads Spring Boot switches over with the same property.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService upstreamExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upstream-", 0).factory());
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("upstream-");
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+}
@@ -1,13 +1,145 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.SmileAcceptInterceptor;
+import com.reliaquest.api.client.ThrottlingInterceptor;
+import com.reliaquest.api.client.UpstreamMetrics;
+import com.reliaquest.api.client.UpstreamMetricsInterceptor;
+import com.reliaquest.api.client.UpstreamThrottle;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(UpstreamClientProperties.class)
 public class RestTemplateConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            ClientHttpRequestFactory upstreamRequestFactory,
+            ObjectProvider<UpstreamThrottle> upstreamThrottle,
+            UpstreamMetrics upstreamMetrics,
+            UpstreamClientProperties properties) {
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        if (properties.isPreferSmile()) {
+            restTemplate.getInterceptors().add(new SmileAcceptInterceptor());
+        }
+        // Last, as a retry skips any interceptor registered after the throttle, which times each attempt itself.
+        UpstreamThrottle throttle = upstreamThrottle.getIfAvailable();
+        if (throttle != null) {
+            UpstreamClientProperties.Throttle settings = properties.getThrottle();
+            restTemplate
+                    .getInterceptors()
+                    .add(new ThrottlingInterceptor(
+                            throttle,
+                            settings.getMaxWait(),
+                            settings.getMaxRetries(),
+                            settings.getBaseBackoff(),
+                            upstreamMetrics));
+        } else {
+            restTemplate.getInterceptors().add(new UpstreamMetricsInterceptor(upstreamMetrics));
+        }
+        return restTemplate;
+    }
+
+    @Bean
+    public UpstreamMetrics upstreamMetrics(MeterRegistry meterRegistry, UpstreamClientProperties properties) {
+        return new UpstreamMetrics(meterRegistry, properties.getBaseUrl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.client.throttle.enabled", havingValue = "true", matchIfMissing = true)
+    public UpstreamThrottle upstreamThrottle(UpstreamClientProperties properties) {
+        UpstreamClientProperties.Throttle settings = properties.getThrottle();
+        return new UpstreamThrottle(
+                settings.getInitialRate(),
+                settings.getMinRate(),
+                settings.getMaxRate(),
+                settings.getRateIncrease(),
+                settings.getBurst(),
+                settings.getBaseCooldown(),
+                settings.getMaxCooldown(),
+                System::nanoTime);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.client.pooled", havingValue = "false")
+    public ClientHttpRequestFactory simpleRequestFactory(UpstreamClientProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getConnectTimeout());
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "employee.client.pooled", havingValue = "true", matchIfMissing = true)
+    static class PooledClientConfig {
+
+        @Bean
+        public PoolingHttpClientConnectionManager upstreamConnectionManager(UpstreamClientProperties properties) {
+            return PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(properties.getMaxConnections())
+                    .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(timeout(properties.getConnectTimeout()))
+                            .setSocketTimeout(timeout(properties.getReadTimeout()))
+                            .setTimeToLive(TimeValue.ofMilliseconds(
+                                    properties.getConnectionTimeToLive().toMillis()))
+                            .build())
+                    .build();
+        }
+
+        @Bean
+        public CloseableHttpClient upstreamHttpClient(
+                PoolingHttpClientConnectionManager upstreamConnectionManager, UpstreamClientProperties properties) {
+            return HttpClients.custom()
+                    .setConnectionManager(upstreamConnectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(timeout(properties.getPoolAcquireTimeout()))
+                            .setResponseTimeout(timeout(properties.getReadTimeout()))
+                            .build())
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(
+                            properties.getIdleEviction().toMillis()))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory pooledRequestFactory(CloseableHttpClient upstreamHttpClient) {
+            return new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+        }
+
+        /*
+         * Publishes the pool's leased, available and pending connections as httpcomponents.httpclient.pool.* gauges.
+         */
+        @Bean
+        public MeterBinder upstreamPoolMetrics(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(upstreamConnectionManager, "employee-upstream");
+        }
+
+        @Bean
+        public UpstreamPoolEndpoint upstreamPoolEndpoint(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+            return new UpstreamPoolEndpoint(upstreamConnectionManager);
+        }
+
+        private static Timeout timeout(Duration duration) {
+            return Timeout.ofMilliseconds(duration.toMillis());
+        }
     }
 }
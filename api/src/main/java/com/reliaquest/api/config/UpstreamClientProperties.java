@@ -0,0 +1,92 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the HTTP client used to call the mock employee server.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("employee.client")
+public class UpstreamClientProperties {
+    /*
+     * Employee collection endpoint of the mock employee server; every upstream call is made relative to it.
+     */
+    private String baseUrl = "http://localhost:8112/api/v1/employee";
+
+    /*
+     * Pooled keep-alive client (Apache HttpClient) when true, the JDK's HttpURLConnection otherwise.
+     */
+    private boolean pooled = true;
+
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+
+    /*
+     * Pooled connections idle for longer than this are closed; any connection is retired after its time to live.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /*
+     * Upper bound on upstream DELETEs in flight for a single batch delete.
+     */
+    private int deleteParallelism = 4;
+
+    /*
+     * Employees per page when loading the full list from the paginated endpoint; 0 fetches it in a single response.
+     * Pages after the first are fetched concurrently, at most page-parallelism at a time.
+     */
+    private int pageSize = 0;
+    private int pageParallelism = 4;
+
+    /*
+     * Concurrent creates are sent to the bulk endpoint together: a batch goes out once it holds create-batch-size
+     * employees or create-batch-window after its first one joined. A size of 1 sends every create on its own.
+     */
+    private int createBatchSize = 1;
+    private Duration createBatchWindow = Duration.ofMillis(5);
+
+    /*
+     * Ask the mock server for Smile, Jackson's binary encoding of the same data, ahead of JSON. Responses are smaller
+     * and cheaper to encode and parse; a server without Smile support answers with JSON.
+     */
+    private boolean preferSmile = true;
+
+    private final Throttle throttle = new Throttle();
+
+    @Getter
+    @Setter
+    public static class Throttle {
+        private boolean enabled = true;
+
+        /*
+         * Permits per second. The rate adapts between min and max: +rate-increase per success, halved per 429.
+         */
+        private double initialRate = 10;
+        private double minRate = 0.05;
+        private double maxRate = 50;
+        private double rateIncrease = 0.5;
+        private int burst = 10;
+
+        /*
+         * Cool-down after a 429 that carries no Retry-After; doubles for every consecutive 429 up to the maximum.
+         */
+        private Duration baseCooldown = Duration.ofSeconds(1);
+        private Duration maxCooldown = Duration.ofSeconds(60);
+
+        /*
+         * How long a single call may spend waiting for a permit and retrying before it gives up.
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+        private int maxRetries = 3;
+        private Duration baseBackoff = Duration.ofMillis(100);
+    }
+}
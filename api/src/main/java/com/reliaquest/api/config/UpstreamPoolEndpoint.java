@@ -0,0 +1,42 @@
+package com.reliaquest.api.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/upstreampool}) reporting connection pool usage towards the mock employee server.
+ */
+@Endpoint(id = "upstreampool")
+public class UpstreamPoolEndpoint {
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public UpstreamPoolEndpoint(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> poolStats() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), describe(connectionManager.getStats(route)));
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", describe(connectionManager.getTotalStats()));
+        stats.put("routes", routes);
+        return stats;
+    }
+
+    private static Map<String, Integer> describe(PoolStats poolStats) {
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        stats.put("leased", poolStats.getLeased());
+        stats.put("pending", poolStats.getPending());
+        stats.put("available", poolStats.getAvailable());
+        stats.put("max", poolStats.getMax());
+        return stats;
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.service.IAsyncEmployeeService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Serves the {@link IEmployeeController} routes, request bodies and responses without holding a servlet thread while
+ * the upstream responds: every handler returns a {@link CompletableFuture} and Spring MVC completes the request
+ * asynchronously. It cannot implement {@link IEmployeeController} itself, whose methods return synchronously.
+ *
+ * <p>Active with {@code employee.service.mode=async}, replacing {@link EmployeeController}.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "async")
+public class AsyncEmployeeController {
+    @Autowired
+    private IAsyncEmployeeService employeeService;
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<EmployeeDto>>> getAllEmployees() {
+        return employeeService.getAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<EmployeeDto>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        return employeeService.getEmployeesByNameSearch(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<EmployeeDto>> getEmployeeById(@PathVariable String id) {
+        return employeeService
+                .getEmployeeById(id)
+                .thenApply(employee -> employee.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalary().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<EmployeeDto>> createEmployee(@RequestBody Object request) {
+        CreateEmployeeRequest input;
+        try {
+            input = new ObjectMapper().convertValue(request, CreateEmployeeRequest.class);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return employeeService
+                .createEmployee(input)
+                .thenApply(created -> created.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.badRequest().build()))
+                .exceptionally(failure -> ResponseEntity.badRequest().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService
+                .deleteEmployeeById(id)
+                .thenApply(deleted -> deleted
+                        ? ResponseEntity.ok("Employee deleted successfully")
+                        : ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping
+    public CompletableFuture<ResponseEntity<Map<String, DeleteOutcome>>> deleteEmployeesByIds(
+            @RequestBody List<String> ids) {
+        return employeeService.deleteEmployeesByIds(ids).thenApply(ResponseEntity::ok);
+    }
+}
@@ -2,15 +2,19 @@ package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.service.IEmployeeService;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController {
     @Autowired
     private IEmployeeService employeeService;
@@ -64,4 +68,12 @@ public class EmployeeController implements IEmployeeController {
                 ? ResponseEntity.ok("Employee deleted successfully")
                 : ResponseEntity.notFound().build();
     }
+
+    /**
+     * Batch delete, not part of {@link IEmployeeController}: deletes every employee in the request body list of ids.
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, DeleteOutcome>> deleteEmployeesByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(employeeService.deleteEmployeesByIds(ids));
+    }
 }
@@ -0,0 +1,10 @@
+package com.reliaquest.api.dto;
+
+/**
+ * Result of deleting a single employee as part of a batch delete.
+ */
+public enum DeleteOutcome {
+    DELETED,
+    NOT_FOUND,
+    FAILED
+}
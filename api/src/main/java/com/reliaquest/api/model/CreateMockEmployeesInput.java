@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CreateMockEmployeesInput {
+    private List<CreateEmployeeRequest> employees;
+}
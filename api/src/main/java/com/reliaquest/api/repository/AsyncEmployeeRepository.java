@@ -0,0 +1,289 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.client.AsyncSingleFlight;
+import com.reliaquest.api.client.AsyncUpstreamClient;
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import com.reliaquest.api.repository.EmployeeRepository.DeleteResponse;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeListResponse;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeRepository}, built on {@link AsyncUpstreamClient}. It keeps the same
+ * snapshot semantics: warm reads complete immediately, a stale snapshot is served while one refresh runs, and
+ * confirmed mutations are applied locally.
+ *
+ * <p>Paged loading, the streaming mode and create batching are blocking-mode features and are not used here.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "async")
+public class AsyncEmployeeRepository implements MeterBinder {
+    private static final int MAX_LOAD_ATTEMPTS = 2;
+
+    private final AsyncUpstreamClient client;
+    private final UpstreamClientProperties properties;
+    private final String baseUrl;
+    private final Duration refreshInterval;
+    private final Executor upstreamExecutor;
+    private final Clock clock;
+
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final SnapshotMetrics snapshotMetrics = new SnapshotMetrics();
+    private final AsyncSingleFlight<String, EmployeeSnapshot> snapshotLoads = new AsyncSingleFlight<>();
+    private final AsyncSingleFlight<String, Optional<EmployeeDto>> employeeLookups = new AsyncSingleFlight<>();
+
+    @Autowired
+    public AsyncEmployeeRepository(
+            AsyncUpstreamClient client,
+            UpstreamClientProperties properties,
+            @Value("${employee.snapshot.refresh-interval:30s}") Duration refreshInterval,
+            @Qualifier("upstreamExecutor") Executor upstreamExecutor) {
+        this(client, properties, refreshInterval, upstreamExecutor, Clock.systemUTC());
+    }
+
+    AsyncEmployeeRepository(
+            AsyncUpstreamClient client,
+            UpstreamClientProperties properties,
+            Duration refreshInterval,
+            Executor upstreamExecutor,
+            Clock clock) {
+        this.client = client;
+        this.properties = properties;
+        this.baseUrl = properties.getBaseUrl();
+        this.refreshInterval = refreshInterval;
+        this.upstreamExecutor = upstreamExecutor;
+        this.clock = clock;
+    }
+
+    public CompletableFuture<List<EmployeeDto>> fetchAllEmployees() {
+        return currentSnapshot().thenApply(EmployeeSnapshot::getEmployees);
+    }
+
+    public CompletableFuture<List<EmployeeDto>> fetchEmployeesByName(String searchString) {
+        return currentSnapshot().thenApply(current -> current.nameIndex().search(searchString));
+    }
+
+    public CompletableFuture<Optional<EmployeeDto>> fetchEmployeeById(String id) {
+        String url = baseUrl + "/" + id;
+        return employeeLookups.execute(url, () -> client.get(url, EmployeeResponse.class)
+                .handle((response, failure) -> {
+                    if (failure == null) {
+                        return Optional.ofNullable(response).map(EmployeeResponse::getData);
+                    }
+                    if (unwrap(failure) instanceof HttpClientErrorException.NotFound) {
+                        return Optional.empty();
+                    }
+                    throw failure instanceof CompletionException completion
+                            ? completion
+                            : new CompletionException(failure);
+                }));
+    }
+
+    public CompletableFuture<Integer> fetchHighestSalary() {
+        return currentSnapshot().thenApply(current -> current.getSalaries().highestSalary());
+    }
+
+    public CompletableFuture<List<String>> fetchTopTenHighestEarningEmployeeNames() {
+        return currentSnapshot().thenApply(current -> current.getSalaries().topEarnerNames());
+    }
+
+    public CompletableFuture<Optional<EmployeeDto>> createEmployee(CreateEmployeeRequest request) {
+        log.info("Creating employee with request: {}", request);
+        return client.send("POST", baseUrl, request, EmployeeResponse.class).thenApply(response -> {
+            Optional<EmployeeDto> created = Optional.ofNullable(response).map(EmployeeResponse::getData);
+            created.ifPresent(employee -> updateSnapshot(current -> current.withEmployee(employee)));
+            return created;
+        });
+    }
+
+    /**
+     * Deletes the employee with the given id, resolving its name from the snapshot when possible.
+     *
+     * @return completes with {@code false} if no such employee exists
+     */
+    public CompletableFuture<Boolean> deleteEmployeeById(String id) {
+        Optional<EmployeeDto> known = Optional.ofNullable(snapshot.get()).flatMap(current -> current.findById(id));
+        CompletableFuture<Optional<EmployeeDto>> employee =
+                known.isPresent() ? CompletableFuture.completedFuture(known) : fetchEmployeeById(id);
+        return employee.thenCompose(found -> {
+            if (found.isEmpty() || found.get().getEmployeeName() == null) {
+                log.error("Employee not found or name is missing for id: {}", id);
+                return CompletableFuture.completedFuture(false);
+            }
+            return deleteUpstream(found.get());
+        });
+    }
+
+    /**
+     * Deletes several employees, at most {@code employee.client.delete-parallelism} upstream deletes at a time.
+     *
+     * @return completes with the outcome for every distinct id, in request order
+     */
+    public CompletableFuture<Map<String, DeleteOutcome>> deleteEmployeesByIds(List<String> ids) {
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        return resolveEmployees(distinctIds).thenCompose(employees -> {
+            Map<String, DeleteOutcome> outcomes = new ConcurrentHashMap<>();
+            Queue<EmployeeDto> queue = new ConcurrentLinkedQueue<>();
+            for (String id : distinctIds) {
+                EmployeeDto employee = employees.get(id);
+                if (employee == null || employee.getEmployeeName() == null) {
+                    outcomes.put(id, DeleteOutcome.NOT_FOUND);
+                } else {
+                    queue.add(employee);
+                }
+            }
+            // Each lane deletes one employee at a time until the queue is drained.
+            int lanes = Math.max(1, Math.min(properties.getDeleteParallelism(), queue.size()));
+            CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+            for (int i = 0; i < lanes; i++) {
+                running[i] = drain(queue, outcomes);
+            }
+            return CompletableFuture.allOf(running).thenApply(ignored -> {
+                Map<String, DeleteOutcome> ordered = new LinkedHashMap<>();
+                distinctIds.forEach(id -> ordered.put(id, outcomes.get(id)));
+                return ordered;
+            });
+        });
+    }
+
+    private CompletableFuture<Void> drain(Queue<EmployeeDto> queue, Map<String, DeleteOutcome> outcomes) {
+        EmployeeDto employee = queue.poll();
+        if (employee == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return deleteUpstream(employee)
+                .handle((deleted, failure) -> {
+                    if (failure != null) {
+                        log.error("Failed to delete employee with id: {}", employee.getId(), unwrap(failure));
+                        return DeleteOutcome.FAILED;
+                    }
+                    return deleted ? DeleteOutcome.DELETED : DeleteOutcome.NOT_FOUND;
+                })
+                // Async so that a long run of immediately completed deletes cannot grow the stack.
+                .thenComposeAsync(
+                        outcome -> {
+                            outcomes.put(employee.getId(), outcome);
+                            return drain(queue, outcomes);
+                        },
+                        upstreamExecutor);
+    }
+
+    private CompletableFuture<Map<String, EmployeeDto>> resolveEmployees(Set<String> ids) {
+        Map<String, EmployeeDto> resolved = lookup(snapshot.get(), ids);
+        if (resolved.size() == ids.size()) {
+            return CompletableFuture.completedFuture(resolved);
+        }
+        return refreshSnapshot().thenApply(fresh -> lookup(fresh, ids));
+    }
+
+    private static Map<String, EmployeeDto> lookup(EmployeeSnapshot source, Set<String> ids) {
+        Map<String, EmployeeDto> found = new HashMap<>();
+        if (source != null) {
+            for (String id : ids) {
+                source.findById(id).ifPresent(employee -> found.put(id, employee));
+            }
+        }
+        return found;
+    }
+
+    private CompletableFuture<Boolean> deleteUpstream(EmployeeDto employee) {
+        String id = employee.getId();
+        long sentAtVersion = EmployeeSnapshot.versionOf(snapshot.get());
+        DeleteMockEmployeeInput request = new DeleteMockEmployeeInput(id, employee.getEmployeeName());
+        return client.send("DELETE", baseUrl, request, DeleteResponse.class).thenApply(response -> {
+            boolean deleted = response == null || !Boolean.FALSE.equals(response.getData());
+            updateSnapshot(current -> current.withoutEmployee(id, sentAtVersion, deleted));
+            return deleted;
+        });
+    }
+
+    CompletableFuture<EmployeeSnapshot> currentSnapshot() {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null) {
+            snapshotMetrics.recordMiss();
+            return refreshSnapshot();
+        }
+        if (current.isStale(clock.instant(), refreshInterval)) {
+            snapshotMetrics.recordStale();
+            refreshSnapshot().exceptionally(failure -> {
+                log.warn("Employee snapshot refresh failed, continuing to serve stale data", unwrap(failure));
+                return null;
+            });
+        } else {
+            snapshotMetrics.recordFresh();
+        }
+        return CompletableFuture.completedFuture(current);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        snapshotMetrics.bindTo(registry, snapshot::get, clock);
+    }
+
+    private void updateSnapshot(UnaryOperator<EmployeeSnapshot> mutation) {
+        snapshot.updateAndGet(current -> current == null ? null : mutation.apply(current));
+    }
+
+    private CompletableFuture<EmployeeSnapshot> refreshSnapshot() {
+        return snapshotLoads.execute(baseUrl, () -> loadSnapshot(1));
+    }
+
+    /**
+     * Fetches the list and stores it, unless a confirmed local write replaced the snapshot while the fetch was in
+     * flight: the list may predate that write, so it is then fetched once more. Should that race with a write too, the
+     * snapshot holding the writes is kept until the next refresh.
+     */
+    private CompletableFuture<EmployeeSnapshot> loadSnapshot(int attempt) {
+        EmployeeSnapshot previous = snapshot.get();
+        return client.get(baseUrl, EmployeeListResponse.class).thenCompose(response -> {
+            List<EmployeeDto> employees = response != null && response.getData() != null
+                    ? response.getData()
+                    : Collections.emptyList();
+            EmployeeSnapshot fresh = EmployeeSnapshot.of(employees, clock.instant());
+            if (snapshot.compareAndSet(previous, fresh)) {
+                log.debug("Refreshed employee snapshot with {} employees", employees.size());
+                return CompletableFuture.completedFuture(fresh);
+            }
+            if (attempt < MAX_LOAD_ATTEMPTS) {
+                return loadSnapshot(attempt + 1);
+            }
+            log.debug("Employee snapshot changed locally during every refresh attempt, keeping local changes");
+            return CompletableFuture.completedFuture(snapshot.get());
+        });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,193 @@
+package com.reliaquest.api.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeChanges;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link EmployeeRepository} snapshot current by following the upstream's server-sent stream of creates and
+ * deletes, so that it lags the upstream by milliseconds and, while the stream is up, needs no polling refreshes: the
+ * upstream's periodic empty events keep the snapshot fresh.
+ *
+ * <p>The stream is read on one daemon thread, outside the throttled {@code RestTemplate}, as it is a single long-lived
+ * request. Every connection resumes from the version of the current snapshot, loading one first if needed; after a
+ * disconnect it reconnects with exponential backoff. When a batch of changes doesn't follow on from the snapshot (a
+ * refresh or a local delete replaced it in the meantime) the stream is reopened from the snapshot's new version, and
+ * when the upstream asks for a resync the whole list is fetched before reconnecting.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.snapshot.change-stream.enabled", havingValue = "true")
+public class EmployeeChangeSubscriber implements SmartLifecycle {
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final EmployeeRepository repository;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String streamUrl;
+
+    private volatile boolean running;
+    private volatile Thread reader;
+    private volatile InputStream openStream;
+
+    @Autowired
+    public EmployeeChangeSubscriber(
+            EmployeeRepository repository, ObjectMapper objectMapper, UpstreamClientProperties properties) {
+        this(
+                repository,
+                objectMapper,
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(properties.getConnectTimeout())
+                        .build(),
+                properties.getBaseUrl());
+    }
+
+    EmployeeChangeSubscriber(
+            EmployeeRepository repository, ObjectMapper objectMapper, HttpClient httpClient, String baseUrl) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.streamUrl = baseUrl + "/changes/stream";
+    }
+
+    @Override
+    public void start() {
+        if (!repository.followsChanges()) {
+            log.info("Employee change stream not followed: it needs a retained snapshot loaded in one response");
+            return;
+        }
+        running = true;
+        reader = Thread.ofPlatform().daemon().name("employee-change-stream").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = reader;
+        if (current != null) {
+            current.interrupt();
+        }
+        closeQuietly(openStream);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = MIN_BACKOFF;
+        while (running) {
+            try {
+                follow(repository.versionedSnapshot().getVersion());
+                // The upstream ended the stream cleanly (a timeout or a resync), so reconnect straight away.
+                backoff = MIN_BACKOFF;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Employee change stream failed, reconnecting in {}: {}", backoff, e.toString());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(MAX_BACKOFF) < 0 ? doubled : MAX_BACKOFF;
+            }
+        }
+    }
+
+    /**
+     * Applies the events of one connection until it ends or stops following on from the snapshot.
+     */
+    void follow(long since) throws IOException, InterruptedException {
+        if (since == EmployeeSnapshot.NO_VERSION) {
+            throw new IllegalStateException("Upstream did not report the data version of the employee list");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(streamUrl + "?since=" + since))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        openStream = response.body();
+        try (BufferedReader lines =
+                new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Change stream answered with status " + response.statusCode());
+            }
+            log.debug("Following employee changes since version {}", since);
+            long version = since;
+            String event = null;
+            StringBuilder data = new StringBuilder();
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                if (line.startsWith("event:")) {
+                    event = fieldValue(line);
+                } else if (line.startsWith("data:")) {
+                    data.append(data.isEmpty() ? "" : "\n").append(fieldValue(line));
+                } else if (line.isEmpty() && !data.isEmpty()) {
+                    version = dispatch(event, data.toString(), version);
+                    if (version == EmployeeSnapshot.NO_VERSION) {
+                        return;
+                    }
+                    event = null;
+                    data.setLength(0);
+                }
+            }
+        } finally {
+            openStream = null;
+        }
+    }
+
+    /**
+     * @return the version the snapshot is now current as of, or {@code NO_VERSION} to reconnect
+     */
+    private long dispatch(String event, String data, long version) throws IOException {
+        EmployeeChanges changes = objectMapper.readValue(data, EmployeeChanges.class);
+        if ("resync".equals(event) || changes.isResyncRequired()) {
+            log.info("Employee changes since version {} no longer available, reloading all employees", version);
+            repository.resyncSnapshot();
+            return EmployeeSnapshot.NO_VERSION;
+        }
+        if (!repository.applyChanges(version, changes)) {
+            log.debug("Employee snapshot moved on from version {}, resubscribing", version);
+            return EmployeeSnapshot.NO_VERSION;
+        }
+        return changes.getVersion();
+    }
+
+    // "field: value" and "field:value" are equivalent; only one space after the colon is dropped.
+    private static String fieldValue(String line) {
+        int start = line.indexOf(':') + 1;
+        return line.startsWith(" ", start) ? line.substring(start + 1) : line.substring(start);
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.debug("Failed to close employee change stream", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.repository;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Single-pass reader for the upstream employee list, {@code {"data": [{...}, ...]}}, built on Jackson's token parser.
+ *
+ * <p>Every employee is decoded into the same reused {@link EmployeeFields}: numbers are read as primitives and strings
+ * are copied into growable char buffers, so a full pass allocates nothing per employee beyond what a visitor chooses to
+ * keep via {@link EmployeeFields#name()} or {@link EmployeeFields#toDto()}.
+ */
+final class EmployeeListStreamReader {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private EmployeeListStreamReader() {}
+
+    static void read(InputStream body, Consumer<EmployeeFields> visitor) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an employee list response, got " + token);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(field)) {
+                    readEmployees(parser, visitor);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void readEmployees(JsonParser parser, Consumer<EmployeeFields> visitor) throws IOException {
+        EmployeeFields fields = new EmployeeFields();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of employee list");
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            fields.clear();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                // Field names come from Jackson's symbol table, so this switch does not allocate.
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> fields.id.read(parser, value);
+                    case "employee_name" -> fields.name.read(parser, value);
+                    case "employee_salary" -> fields.salary = readInt(parser, value);
+                    case "employee_age" -> fields.age = readInt(parser, value);
+                    case "employee_title" -> fields.title.read(parser, value);
+                    case "employee_email" -> fields.email.read(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            visitor.accept(fields);
+        }
+    }
+
+    // Mirrors how databind fills the int fields of EmployeeDto: null is 0, floats truncate, numeric strings parse.
+    private static int readInt(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getValueAsInt();
+            case VALUE_STRING -> {
+                String text = parser.getText().trim();
+                yield text.isEmpty() ? 0 : Integer.parseInt(text);
+            }
+            default -> {
+                parser.skipChildren();
+                yield 0;
+            }
+        };
+    }
+
+    /**
+     * The employee currently under the parser. Only valid inside the visitor call; copy out anything to be kept.
+     */
+    static final class EmployeeFields {
+        private final TextField id = new TextField();
+        private final TextField name = new TextField();
+        private final TextField title = new TextField();
+        private final TextField email = new TextField();
+        private int salary;
+        private int age;
+
+        private EmployeeFields() {}
+
+        int salary() {
+            return salary;
+        }
+
+        String name() {
+            return name.toText();
+        }
+
+        /**
+         * Same result as {@code name.toLowerCase().contains(foldedSearch)} for a search already folded with
+         * {@link String#toLowerCase()}. ASCII names are folded in place; anything else goes through {@code String}.
+         */
+        boolean nameContains(String foldedSearch, boolean asciiFoldsPlainly) {
+            if (name.isNull()) {
+                return false;
+            }
+            if (!asciiFoldsPlainly || !name.isAscii()) {
+                return name.toText().toLowerCase().contains(foldedSearch);
+            }
+            return name.foldedAsciiContains(foldedSearch);
+        }
+
+        EmployeeDto toDto() {
+            return new EmployeeDto(id.toText(), name.toText(), salary, age, title.toText(), email.toText());
+        }
+
+        private void clear() {
+            id.clear();
+            name.clear();
+            title.clear();
+            email.clear();
+            salary = 0;
+            age = 0;
+        }
+    }
+
+    private static final class TextField {
+        private char[] chars = new char[32];
+        private char[] folded = new char[0];
+        private int length = -1;
+
+        void read(JsonParser parser, JsonToken value) throws IOException {
+            if (value == JsonToken.VALUE_NULL) {
+                length = -1;
+                return;
+            }
+            if (!value.isScalarValue()) {
+                parser.skipChildren();
+                length = -1;
+                return;
+            }
+            length = parser.getTextLength();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), chars, 0, length);
+        }
+
+        boolean isNull() {
+            return length < 0;
+        }
+
+        boolean isAscii() {
+            for (int i = 0; i < length; i++) {
+                if (chars[i] >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean foldedAsciiContains(String search) {
+            if (folded.length < length) {
+                folded = new char[chars.length];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                folded[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            }
+            int last = length - search.length();
+            for (int start = 0; start <= last; start++) {
+                int matched = 0;
+                while (matched < search.length() && folded[start + matched] == search.charAt(matched)) {
+                    matched++;
+                }
+                if (matched == search.length()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String toText() {
+            return length < 0 ? null : new String(chars, 0, length);
+        }
+
+        void clear() {
+            length = -1;
+        }
+    }
+}
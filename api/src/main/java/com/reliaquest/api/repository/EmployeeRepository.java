@@ -1,77 +1,180 @@
 package com.reliaquest.api.repository;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.reliaquest.api.client.BoundedParallelCalls;
+import com.reliaquest.api.client.MicroBatcher;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.config.UpstreamClientProperties;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.model.CreateMockEmployeesInput;
+import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-
-import com.reliaquest.api.model.DeleteMockEmployeeInput;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Repository
 @Slf4j
-public class EmployeeRepository {
-    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+public class EmployeeRepository implements MeterBinder {
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final int MAX_STORE_ATTEMPTS = 2;
+
+    // Sent by the upstream with the full list: the version to ask for changes since.
+    static final String DATA_VERSION_HEADER = "X-Data-Version";
+
     private final RestTemplate restTemplate;
+    private final UpstreamClientProperties properties;
+    private final String baseUrl;
+    private final Duration refreshInterval;
+    private final boolean snapshotEnabled;
+    private final Executor upstreamExecutor;
+    private final Clock clock;
+
+    // Null until the first successful fetch; afterwards reads are served from here and never wait on the upstream.
+    private final AtomicReference<EmployeeSnapshot> snapshot = new AtomicReference<>();
+    private final SnapshotMetrics snapshotMetrics = new SnapshotMetrics();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+
+    // Concurrent identical upstream reads, keyed by URL, share a single HTTP call.
+    private final SingleFlight<String, EmployeeSnapshot> snapshotLoads = new SingleFlight<>();
+    private final SingleFlight<String, Optional<EmployeeDto>> employeeLookups = new SingleFlight<>();
+
+    // Null when creates are not batched.
+    private final MicroBatcher<CreateEmployeeRequest, EmployeeDto> createBatcher;
 
     public EmployeeRepository(RestTemplate restTemplate) {
+        this(
+                restTemplate,
+                new UpstreamClientProperties(),
+                DEFAULT_REFRESH_INTERVAL,
+                true,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC());
+    }
+
+    @Autowired
+    public EmployeeRepository(
+            RestTemplate restTemplate,
+            UpstreamClientProperties properties,
+            @Value("${employee.snapshot.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${employee.snapshot.enabled:true}") boolean snapshotEnabled,
+            @Qualifier("upstreamExecutor") Executor upstreamExecutor) {
+        this(restTemplate, properties, refreshInterval, snapshotEnabled, upstreamExecutor, Clock.systemUTC());
+    }
+
+    EmployeeRepository(
+            RestTemplate restTemplate,
+            UpstreamClientProperties properties,
+            Duration refreshInterval,
+            boolean snapshotEnabled,
+            Executor upstreamExecutor,
+            Clock clock) {
         this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.baseUrl = properties.getBaseUrl();
+        this.refreshInterval = refreshInterval;
+        this.snapshotEnabled = snapshotEnabled;
+        this.upstreamExecutor = upstreamExecutor;
+        this.clock = clock;
+        this.createBatcher = properties.getCreateBatchSize() > 1
+                ? new MicroBatcher<>(
+                        this::postEmployees,
+                        request -> postEmployee(request).orElse(null),
+                        properties.getCreateBatchSize(),
+                        properties.getCreateBatchWindow(),
+                        upstreamExecutor,
+                        EmployeeRepository::isRejectedAsWhole)
+                : null;
     }
 
     public List<EmployeeDto> fetchAllEmployees() {
-        ResponseEntity<EmployeeListResponse> response = restTemplate.getForEntity(BASE_URL, EmployeeListResponse.class);
-        return response.getBody() != null ? response.getBody().getData() : Collections.emptyList();
+        if (!snapshotEnabled) {
+            return loadEmployees();
+        }
+        return currentSnapshot().getEmployees();
     }
 
     public List<EmployeeDto> fetchEmployeesByName(String searchString) {
-        return fetchAllEmployees().stream()
-                .filter(emp -> emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        if (!snapshotEnabled) {
+            return streamEmployeeList(body -> StreamingEmployeeAggregates.searchByName(body, searchString));
+        }
+        return currentSnapshot().nameIndex().search(searchString);
     }
 
     public Optional<EmployeeDto> fetchEmployeeById(String id) {
-        try {
-            ResponseEntity<EmployeeResponse> response =
-                    restTemplate.getForEntity(BASE_URL + "/" + id, EmployeeResponse.class);
-            return Optional.ofNullable(response.getBody()).map(EmployeeResponse::getData);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        String url = baseUrl + "/" + id;
+        return employeeLookups.execute(url, () -> {
+            try {
+                ResponseEntity<EmployeeResponse> response = restTemplate.getForEntity(url, EmployeeResponse.class);
+                return Optional.ofNullable(response.getBody()).map(EmployeeResponse::getData);
+            } catch (HttpClientErrorException.NotFound e) {
+                return Optional.empty();
+            }
+        });
     }
 
     public int fetchHighestSalary() {
-        return fetchAllEmployees().stream()
-                .mapToInt(EmployeeDto::getEmployeeSalary)
-                .max()
-                .orElse(0);
+        if (!snapshotEnabled) {
+            return streamEmployeeList(StreamingEmployeeAggregates::highestSalary);
+        }
+        return currentSnapshot().getSalaries().highestSalary();
     }
 
     public List<String> fetchTopTenHighestEarningEmployeeNames() {
-        return fetchAllEmployees().stream()
-                .sorted(Comparator.comparingInt(EmployeeDto::getEmployeeSalary).reversed())
-                .limit(10)
-                .map(EmployeeDto::getEmployeeName)
-                .collect(Collectors.toList());
+        if (!snapshotEnabled) {
+            return streamEmployeeList(body -> StreamingEmployeeAggregates.topEarnerNames(body, SalaryAggregate.TOP_K));
+        }
+        return currentSnapshot().getSalaries().topEarnerNames();
     }
 
+    /**
+     * Creates an employee. With {@code employee.client.create-batch-size} above 1, concurrent calls are collected
+     * into a single bulk upstream POST and each caller gets its own employee back. A create that no other joins within
+     * {@code create-batch-window} is posted on its own.
+     */
     public Optional<EmployeeDto> createEmployee(CreateEmployeeRequest request) {
         try {
             log.info("Creating employee with request: {}", request);
-            ResponseEntity<EmployeeResponse> response =
-                    restTemplate.postForEntity(BASE_URL, request, EmployeeResponse.class);
-            log.info("Received response: {}", response);
-            return Optional.ofNullable(response.getBody()).map(EmployeeResponse::getData);
+            Optional<EmployeeDto> created =
+                    createBatcher != null ? Optional.ofNullable(createBatcher.call(request)) : postEmployee(request);
+            created.ifPresent(employee -> updateSnapshot(current -> current.withEmployee(employee)));
+            return created;
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Error in createEmployee API: {}", e.getResponseBodyAsString());
             throw e; // Let GlobalExceptionHandler handle it
@@ -81,32 +184,387 @@ public class EmployeeRepository {
         }
     }
 
+    private Optional<EmployeeDto> postEmployee(CreateEmployeeRequest request) {
+        ResponseEntity<EmployeeResponse> response =
+                restTemplate.postForEntity(baseUrl, request, EmployeeResponse.class);
+        log.info("Received response: {}", response);
+        return Optional.ofNullable(response.getBody()).map(EmployeeResponse::getData);
+    }
+
+    private List<EmployeeDto> postEmployees(List<CreateEmployeeRequest> requests) {
+        ResponseEntity<EmployeeListResponse> response = restTemplate.postForEntity(
+                baseUrl + "/bulk", new CreateMockEmployeesInput(requests), EmployeeListResponse.class);
+        log.info("Created {} employees in one bulk request", requests.size());
+        return response.getBody() != null ? response.getBody().getData() : null;
+    }
+
+    // The bulk endpoint is all-or-nothing, so one invalid input fails its whole batch and the rest are worth sending
+    // one by one. Any other failure (429s, 5xx) would hit every single request alike, and only add load to an upstream
+    // that is already struggling.
+    static boolean isRejectedAsWhole(Throwable failure) {
+        if (!(failure instanceof HttpStatusCodeException statusCode)) {
+            return false;
+        }
+        int status = statusCode.getStatusCode().value();
+        return status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.UNPROCESSABLE_ENTITY.value();
+    }
+
+    /**
+     * Deletes the employee with the given id. The name the upstream needs is taken from the local snapshot when it
+     * knows the id, so only a miss costs an extra upstream lookup.
+     *
+     * @return {@code false} if no such employee exists; upstream failures such as 429 are thrown, not reported as a
+     *     missing employee
+     */
     public boolean deleteEmployeeById(String id) {
-        try {
-            Optional<EmployeeDto> employee = fetchEmployeeById(id);
+        Optional<EmployeeDto> employee = Optional.ofNullable(snapshot.get())
+                .flatMap(current -> current.findById(id))
+                .or(() -> fetchEmployeeById(id));
 
-            if (employee.isEmpty() || employee.get().getEmployeeName() == null) {
-                log.error("Employee not found or name is missing for id: {}", id);
-                return false;
+        if (employee.isEmpty() || employee.get().getEmployeeName() == null) {
+            log.error("Employee not found or name is missing for id: {}", id);
+            return false;
+        }
+        return deleteUpstream(employee.get());
+    }
+
+    /**
+     * Deletes several employees. Names are resolved in one pass over the snapshot (refreshed once if any id is
+     * unknown to it) and the upstream deletes are then issued concurrently, at most
+     * {@code employee.client.delete-parallelism} at a time.
+     *
+     * @return the outcome for every distinct id, in request order
+     */
+    public Map<String, DeleteOutcome> deleteEmployeesByIds(List<String> ids) {
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        Map<String, EmployeeDto> employees = resolveEmployees(distinctIds);
+
+        List<String> toDelete = new ArrayList<>();
+        List<Supplier<DeleteOutcome>> deletes = new ArrayList<>();
+        for (String id : distinctIds) {
+            EmployeeDto employee = employees.get(id);
+            if (employee != null && employee.getEmployeeName() != null) {
+                toDelete.add(id);
+                deletes.add(() -> deleteUpstream(employee) ? DeleteOutcome.DELETED : DeleteOutcome.NOT_FOUND);
             }
-            // Create request body with both fields
-            DeleteMockEmployeeInput request = new DeleteMockEmployeeInput(id, employee.get().getEmployeeName());
+        }
+        List<CompletableFuture<DeleteOutcome>> pending =
+                BoundedParallelCalls.submitAll(deletes, properties.getDeleteParallelism(), upstreamExecutor);
 
-            // Wrap it in HttpEntity
-            HttpEntity<DeleteMockEmployeeInput> requestEntity = new HttpEntity<>(request);
+        Map<String, DeleteOutcome> outcomes = new LinkedHashMap<>();
+        distinctIds.forEach(id -> outcomes.put(id, DeleteOutcome.NOT_FOUND));
+        for (int i = 0; i < toDelete.size(); i++) {
+            String id = toDelete.get(i);
+            DeleteOutcome outcome = pending.get(i)
+                    .exceptionally(failure -> {
+                        log.error("Failed to delete employee with id: {}", id, failure);
+                        return DeleteOutcome.FAILED;
+                    })
+                    .join();
+            outcomes.put(id, outcome);
+        }
+        return outcomes;
+    }
 
-            // Send DELETE request with JSON body
-            ResponseEntity<Void> response = restTemplate.exchange(
-                    BASE_URL,
-                    HttpMethod.DELETE,
-                    requestEntity,
-                    Void.class
-            );
+    private Map<String, EmployeeDto> resolveEmployees(Set<String> ids) {
+        Map<String, EmployeeDto> resolved = lookup(snapshot.get(), ids);
+        if (resolved.size() < ids.size()) {
+            // A single list fetch resolves every miss at once instead of one GET per id.
+            resolved = lookup(refreshSnapshot(), ids);
+        }
+        return resolved;
+    }
 
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
+    private static Map<String, EmployeeDto> lookup(EmployeeSnapshot source, Set<String> ids) {
+        Map<String, EmployeeDto> found = new HashMap<>();
+        if (source != null) {
+            for (String id : ids) {
+                source.findById(id).ifPresent(employee -> found.put(id, employee));
+            }
+        }
+        return found;
+    }
+
+    private boolean deleteUpstream(EmployeeDto employee) {
+        String id = employee.getId();
+        long sentAtVersion = EmployeeSnapshot.versionOf(snapshot.get());
+        // Create request body with both fields
+        DeleteMockEmployeeInput request = new DeleteMockEmployeeInput(id, employee.getEmployeeName());
+
+        // Wrap it in HttpEntity
+        HttpEntity<DeleteMockEmployeeInput> requestEntity = new HttpEntity<>(request);
+
+        // Send DELETE request with JSON body
+        ResponseEntity<DeleteResponse> response =
+                restTemplate.exchange(baseUrl, HttpMethod.DELETE, requestEntity, DeleteResponse.class);
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
             return false;
         }
+        boolean deleted = response.getBody() == null || !Boolean.FALSE.equals(response.getBody().getData());
+        // Deleted now or already gone upstream (a stale local entry): either way it must leave the snapshot.
+        updateSnapshot(current -> current.withoutEmployee(id, sentAtVersion, deleted));
+        return deleted;
+    }
+
+    /**
+     * Returns the current snapshot, loading it synchronously only when none exists yet. Once warm, a stale snapshot is
+     * still returned immediately while a single background refresh brings in the next one. With the snapshot disabled
+     * every call loads a fresh one that is not retained.
+     */
+    EmployeeSnapshot currentSnapshot() {
+        if (!snapshotEnabled) {
+            return refreshSnapshot();
+        }
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null) {
+            snapshotMetrics.recordMiss();
+            return refreshSnapshot();
+        }
+        if (current.isStale(clock.instant(), refreshInterval)) {
+            snapshotMetrics.recordStale();
+            scheduleRefresh();
+        } else {
+            snapshotMetrics.recordFresh();
+        }
+        return current;
+    }
+
+    /**
+     * Whether the snapshot can follow the upstream's change stream: it has to be retained, and only a list fetched in
+     * one response comes with the data version the stream resumes from.
+     */
+    boolean followsChanges() {
+        return snapshotEnabled && properties.getPageSize() <= 0;
+    }
+
+    /**
+     * Returns the snapshot if it knows the upstream data version it is current as of, and refreshes it otherwise.
+     */
+    EmployeeSnapshot versionedSnapshot() {
+        EmployeeSnapshot current = snapshot.get();
+        return current != null && current.getVersion() != EmployeeSnapshot.NO_VERSION ? current : refreshSnapshot();
+    }
+
+    /**
+     * Replaces the snapshot with the whole list, for when the upstream no longer has the changes since its version.
+     */
+    EmployeeSnapshot resyncSnapshot() {
+        return snapshotLoads.execute(baseUrl, () -> storeSnapshot(this::fetchSnapshotAtOnce));
+    }
+
+    /**
+     * Applies changes pushed by the upstream, provided the snapshot is still at {@code since}, the version they follow
+     * on from. An empty batch just confirms that the snapshot is current.
+     *
+     * <p>The changes are applied outside any retry loop, so a local write racing with them costs no repeated copy of
+     * the list: the result is stored only if the snapshot is still the one it was applied to, and otherwise the
+     * snapshot that replaced it decides the outcome.
+     *
+     * @return whether the snapshot is now current as of the version of {@code changes}
+     */
+    boolean applyChanges(long since, EmployeeChanges changes) {
+        EmployeeSnapshot current = snapshot.get();
+        if (current == null || current.getVersion() != since) {
+            return current != null && current.getVersion() == changes.getVersion();
+        }
+        EmployeeSnapshot updated = current.withChanges(changes.getChanges(), changes.getVersion(), clock.instant());
+        if (snapshot.compareAndSet(current, updated)) {
+            return true;
+        }
+        EmployeeSnapshot replaced = snapshot.get();
+        return replaced != null && replaced.getVersion() == changes.getVersion();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        snapshotMetrics.bindTo(registry, snapshot::get, clock);
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            upstreamExecutor.execute(() -> {
+                try {
+                    refreshSnapshot();
+                } catch (Exception e) {
+                    log.warn("Employee snapshot refresh failed, continuing to serve stale data", e);
+                } finally {
+                    refreshInFlight.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshInFlight.set(false);
+            log.warn("Employee snapshot refresh rejected, continuing to serve stale data", e);
+        }
+    }
+
+    // Mutations confirmed by the upstream are applied locally so a warm snapshot doesn't lag behind our own writes.
+    private void updateSnapshot(UnaryOperator<EmployeeSnapshot> mutation) {
+        snapshot.updateAndGet(current -> current == null ? null : mutation.apply(current));
+    }
+
+    private EmployeeSnapshot refreshSnapshot() {
+        return snapshotLoads.execute(baseUrl, this::loadSnapshot);
+    }
+
+    private EmployeeSnapshot loadSnapshot() {
+        return storeSnapshot(previous -> properties.getPageSize() > 0
+                ? EmployeeSnapshot.of(fetchAllPages(), clock.instant())
+                : syncSnapshot(previous));
+    }
+
+    /**
+     * Loads a snapshot from the current one and stores it, unless a confirmed local write replaced the current one
+     * while the load was in flight: the load may predate that write, so it is then repeated from the snapshot holding
+     * it. Should the repeat race with a write too, the snapshot holding the writes is kept until the next refresh.
+     */
+    private EmployeeSnapshot storeSnapshot(UnaryOperator<EmployeeSnapshot> load) {
+        if (!snapshotEnabled) {
+            return load.apply(null);
+        }
+        for (int attempt = 1; ; attempt++) {
+            EmployeeSnapshot previous = snapshot.get();
+            EmployeeSnapshot fresh = load.apply(previous);
+            if (snapshot.compareAndSet(previous, fresh)) {
+                log.debug("Refreshed employee snapshot with {} employees", fresh.getEmployees().size());
+                return fresh;
+            }
+            if (attempt == MAX_STORE_ATTEMPTS) {
+                log.debug("Employee snapshot changed locally during every refresh attempt, keeping local changes");
+                return snapshot.get();
+            }
+        }
+    }
+
+    /**
+     * Brings {@code previous} up to date. When it knows the upstream version it is current as of, only the changes
+     * made since are fetched and replayed onto it, so a refresh costs in proportion to the changes rather than the
+     * headcount. The whole list is fetched only without such a version or once the upstream's change log no longer
+     * reaches back to it.
+     */
+    private EmployeeSnapshot syncSnapshot(EmployeeSnapshot previous) {
+        if (previous != null && previous.getVersion() != EmployeeSnapshot.NO_VERSION) {
+            EmployeeChanges changes = fetchChanges(previous.getVersion());
+            if (!changes.isResyncRequired()) {
+                return previous.withChanges(changes.getChanges(), changes.getVersion(), clock.instant());
+            }
+            log.debug("Changes since version {} no longer available, fetching all employees", previous.getVersion());
+        }
+        return fetchSnapshotAtOnce(previous);
+    }
+
+    private EmployeeChanges fetchChanges(long since) {
+        String url = baseUrl + "/changes?since=" + since;
+        ResponseEntity<EmployeeChangesResponse> response =
+                restTemplate.getForEntity(url, EmployeeChangesResponse.class);
+        return response.getBody() != null && response.getBody().getData() != null
+                ? response.getBody().getData()
+                : EmployeeChanges.RESYNC;
+    }
+
+    /**
+     * Fetches the whole list, sending the ETag of {@code previous} when it still mirrors the upstream exactly. A 304
+     * then re-stamps {@code previous} instead of transferring, parsing and indexing an identical list again.
+     */
+    private EmployeeSnapshot fetchSnapshotAtOnce(EmployeeSnapshot previous) {
+        String etag = previous != null ? previous.getEtag() : null;
+        HttpHeaders headers = new HttpHeaders();
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        ResponseEntity<EmployeeListResponse> response =
+                restTemplate.exchange(baseUrl, HttpMethod.GET, new HttpEntity<>(headers), EmployeeListResponse.class);
+        if (etag != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            log.debug("Employee list not modified since {}", etag);
+            return previous.refreshedAt(clock.instant());
+        }
+        return EmployeeSnapshot.of(
+                listData(response), clock.instant(), response.getHeaders().getETag(), dataVersion(response));
+    }
+
+    private static long dataVersion(ResponseEntity<?> response) {
+        String version = response.getHeaders().getFirst(DATA_VERSION_HEADER);
+        try {
+            return version != null ? Long.parseLong(version) : EmployeeSnapshot.NO_VERSION;
+        } catch (NumberFormatException e) {
+            return EmployeeSnapshot.NO_VERSION;
+        }
+    }
+
+    private List<EmployeeDto> loadEmployees() {
+        return properties.getPageSize() > 0 ? fetchAllPages() : fetchAllAtOnce();
+    }
+
+    private List<EmployeeDto> fetchAllAtOnce() {
+        return listData(restTemplate.getForEntity(baseUrl, EmployeeListResponse.class));
+    }
+
+    private static List<EmployeeDto> listData(ResponseEntity<EmployeeListResponse> response) {
+        return response.getBody() != null && response.getBody().getData() != null
+                ? response.getBody().getData()
+                : Collections.emptyList();
+    }
+
+    /**
+     * Loads the list page by page. The first page reports the total, so every remaining offset is known up front and
+     * those pages are fetched concurrently; they are appended in offset order as they complete. Pages are not a
+     * consistent cut: a write landing between two page reads can shift an employee across the page boundary, which
+     * the next refresh corrects.
+     */
+    private List<EmployeeDto> fetchAllPages() {
+        EmployeePage first = fetchPage(0, properties.getPageSize());
+        if (first.getNextOffset() == null || first.getEmployees().isEmpty()) {
+            return first.getEmployees();
+        }
+        // The server may cap the page size below what was asked for, so step by what it actually returned.
+        int step = first.getEmployees().size();
+        List<Supplier<EmployeePage>> remaining = new ArrayList<>();
+        for (int offset = first.getNextOffset(); offset < first.getTotal(); offset += step) {
+            int pageOffset = offset;
+            remaining.add(() -> fetchPage(pageOffset, step));
+        }
+        List<CompletableFuture<EmployeePage>> pages =
+                BoundedParallelCalls.submitAll(remaining, properties.getPageParallelism(), upstreamExecutor);
+
+        List<EmployeeDto> employees = new ArrayList<>(first.getTotal());
+        employees.addAll(first.getEmployees());
+        try {
+            for (CompletableFuture<EmployeePage> page : pages) {
+                employees.addAll(BoundedParallelCalls.join(page).getEmployees());
+            }
+        } catch (RuntimeException | Error e) {
+            pages.forEach(page -> page.cancel(false));
+            throw e;
+        }
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * Runs {@code aggregate} over the upstream list response as it streams in, so that with the snapshot disabled the
+     * aggregate endpoints never hold the whole list in memory.
+     */
+    private <T> T streamEmployeeList(BodyReader<T> aggregate) {
+        return restTemplate.execute(
+                baseUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> aggregate.read(response.getBody()));
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private EmployeePage fetchPage(int offset, int limit) {
+        String url = baseUrl + "/page?offset=" + offset + "&limit=" + limit;
+        ResponseEntity<EmployeePageResponse> response = restTemplate.getForEntity(url, EmployeePageResponse.class);
+        return response.getBody() != null && response.getBody().getData() != null
+                ? response.getBody().getData()
+                : EmployeePage.EMPTY;
     }
 
     // DTOs for API Responses
@@ -125,4 +583,109 @@ public class EmployeeRepository {
             return data;
         }
     }
+
+    static class EmployeePageResponse {
+        EmployeePage data;
+
+        public EmployeePage getData() {
+            return data;
+        }
+    }
+
+    static class EmployeePage {
+        static final EmployeePage EMPTY = new EmployeePage();
+
+        List<EmployeeDto> employees = Collections.emptyList();
+        int offset;
+        int total;
+
+        @JsonProperty("next_offset")
+        Integer nextOffset;
+
+        public List<EmployeeDto> getEmployees() {
+            return employees;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Integer getNextOffset() {
+            return nextOffset;
+        }
+    }
+
+    static class EmployeeChangesResponse {
+        EmployeeChanges data;
+
+        public EmployeeChanges getData() {
+            return data;
+        }
+    }
+
+    static class EmployeeChanges {
+        static final EmployeeChanges RESYNC = new EmployeeChanges();
+
+        long version;
+
+        @JsonProperty("resync_required")
+        boolean resyncRequired = true;
+
+        List<EmployeeChange> changes = Collections.emptyList();
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean isResyncRequired() {
+            return resyncRequired;
+        }
+
+        public List<EmployeeChange> getChanges() {
+            return changes;
+        }
+    }
+
+    static class EmployeeChange {
+        enum Type {
+            CREATED,
+            DELETED
+        }
+
+        long version;
+        Type type;
+        EmployeeDto employee;
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public EmployeeDto getEmployee() {
+            return employee;
+        }
+
+        static EmployeeChange created(long version, EmployeeDto employee) {
+            EmployeeChange change = new EmployeeChange();
+            change.version = version;
+            change.type = Type.CREATED;
+            change.employee = employee;
+            return change;
+        }
+    }
+
+    static class DeleteResponse {
+        Boolean data;
+
+        public Boolean getData() {
+            return data;
+        }
+    }
 }
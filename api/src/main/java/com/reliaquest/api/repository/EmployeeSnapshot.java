@@ -0,0 +1,320 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeChange;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable, point-in-time copy of the upstream employee list. Readers share one instance until the repository swaps
+ * in a newer one; local mutations produce a new snapshot instead of touching this one.
+ */
+final class EmployeeSnapshot {
+    static final long NO_VERSION = -1;
+
+    // Batches of changes to more than this fraction of the list are applied by rebuilding the whole snapshot.
+    private static final int INCREMENTAL_CHANGES_DIVISOR = 4;
+
+    private final List<EmployeeDto> employees;
+    private final Map<String, EmployeeDto> employeesById;
+    private final SalaryAggregate salaries;
+    private final Instant fetchedAt;
+
+    // The upstream's ETag for exactly this list, or null once local mutations have made it diverge.
+    private final String etag;
+
+    // The upstream data version this list is current as of, or NO_VERSION when changes can't be replayed onto it.
+    private final long version;
+
+    // Employees deleted locally, by id, whose delete the upstream's changes have not reported yet.
+    private final Map<String, EmployeeDto> unconfirmedDeletes;
+
+    // Built eagerly for snapshots fetched from the upstream, lazily for ones derived from local mutations.
+    private volatile NameIndex nameIndex;
+
+    private EmployeeSnapshot(
+            List<EmployeeDto> employees, SalaryAggregate salaries, Instant fetchedAt, String etag, long version) {
+        this(employees, indexById(employees), salaries, fetchedAt, etag, version, Map.of());
+    }
+
+    private EmployeeSnapshot(
+            List<EmployeeDto> employees,
+            Map<String, EmployeeDto> employeesById,
+            SalaryAggregate salaries,
+            Instant fetchedAt,
+            String etag,
+            long version,
+            Map<String, EmployeeDto> unconfirmedDeletes) {
+        this.employees = Collections.unmodifiableList(employees);
+        this.employeesById = employeesById;
+        this.salaries = salaries;
+        this.fetchedAt = fetchedAt;
+        this.etag = etag;
+        this.version = version;
+        this.unconfirmedDeletes = unconfirmedDeletes;
+    }
+
+    private EmployeeSnapshot(EmployeeSnapshot source, Instant fetchedAt, long version) {
+        this.employees = source.employees;
+        this.employeesById = source.employeesById;
+        this.salaries = source.salaries;
+        this.fetchedAt = fetchedAt;
+        this.etag = source.etag;
+        this.version = version;
+        this.unconfirmedDeletes = source.unconfirmedDeletes;
+        this.nameIndex = source.nameIndex;
+    }
+
+    static EmployeeSnapshot of(List<EmployeeDto> employees, Instant fetchedAt) {
+        return of(employees, fetchedAt, null, NO_VERSION);
+    }
+
+    static EmployeeSnapshot of(List<EmployeeDto> employees, Instant fetchedAt, String etag, long version) {
+        List<EmployeeDto> copy = new ArrayList<>(employees);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(copy, SalaryAggregate.of(copy), fetchedAt, etag, version);
+        snapshot.nameIndex();
+        return snapshot;
+    }
+
+    static long versionOf(EmployeeSnapshot snapshot) {
+        return snapshot == null ? NO_VERSION : snapshot.version;
+    }
+
+    List<EmployeeDto> getEmployees() {
+        return employees;
+    }
+
+    Optional<EmployeeDto> findById(String id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    SalaryAggregate getSalaries() {
+        return salaries;
+    }
+
+    NameIndex nameIndex() {
+        NameIndex index = nameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null) {
+                    index = NameIndex.of(employees);
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    boolean isStale(Instant now, Duration refreshInterval) {
+        return !now.isBefore(fetchedAt.plus(refreshInterval));
+    }
+
+    /**
+     * Returns a copy with {@code employee} appended, keeping the original fetch time so that the next upstream refresh
+     * is still scheduled relative to the last full sync. The version is kept too: replaying the upstream's record of
+     * this create later is harmless.
+     */
+    EmployeeSnapshot withEmployee(EmployeeDto employee) {
+        List<EmployeeDto> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        return new EmployeeSnapshot(
+                updated,
+                indexById(updated),
+                salaries.withEmployee(employee),
+                fetchedAt,
+                null,
+                version,
+                unconfirmedDeletes);
+    }
+
+    /**
+     * Returns a copy without the employee {@code id}, which the upstream was asked to delete when its data was at
+     * {@code sentAtVersion}. The upstream deletes by name and may have removed a same-named employee instead. When it
+     * reports having deleted one, the copy keeps its version and remembers the removal until the upstream's change for
+     * that delete is replayed onto it, which either confirms it or puts the employee back. If this snapshot has moved
+     * past {@code sentAtVersion}, that change may already be behind it, so the copy has no version instead and the
+     * next refresh fetches the whole list.
+     */
+    EmployeeSnapshot withoutEmployee(String id, long sentAtVersion, boolean deletedUpstream) {
+        EmployeeDto removed = employeesById.get(id);
+        if (removed == null) {
+            return this;
+        }
+        List<EmployeeDto> updated = new ArrayList<>(employees.size());
+        for (EmployeeDto employee : employees) {
+            if (!id.equals(employee.getId())) {
+                updated.add(employee);
+            }
+        }
+        // Duplicate ids are not expected from the upstream, but if several rows went at once just rebuild.
+        SalaryAggregate updatedSalaries = updated.size() == employees.size() - 1
+                ? salaries.withoutEmployee(removed, updated)
+                : SalaryAggregate.of(updated);
+        long updatedVersion = version;
+        Map<String, EmployeeDto> updatedDeletes = unconfirmedDeletes;
+        if (deletedUpstream && version != NO_VERSION) {
+            if (version == sentAtVersion) {
+                updatedDeletes = new LinkedHashMap<>(unconfirmedDeletes);
+                updatedDeletes.put(id, removed);
+            } else {
+                updatedVersion = NO_VERSION;
+            }
+        }
+        return new EmployeeSnapshot(
+                updated, indexById(updated), updatedSalaries, fetchedAt, null, updatedVersion, updatedDeletes);
+    }
+
+    /**
+     * Returns this same list re-stamped as fetched at {@code fetchedAt}, for when the upstream confirmed it unchanged.
+     * Nothing is copied or re-indexed.
+     */
+    EmployeeSnapshot refreshedAt(Instant fetchedAt) {
+        return new EmployeeSnapshot(this, fetchedAt, version);
+    }
+
+    /**
+     * Returns a copy with the upstream's {@code changes} applied in order, current as of {@code version}. Applying a
+     * change is idempotent: a create replaces any employee with the same id and moves it to the end, a delete of an
+     * unknown id does nothing. Changes already reflected here, such as our own creates, therefore do no harm. A delete
+     * settles the first unconfirmed local delete of the same employee, or else of one with the same name, which the
+     * upstream then kept: that employee is put back at the end.
+     *
+     * <p>A batch that is small next to the list updates copies of the list and id index and the salary leaderboard
+     * change by change, and leaves the name index to be built on first use, as for local mutations. Larger batches
+     * rebuild the snapshot from the resulting list.
+     */
+    EmployeeSnapshot withChanges(List<EmployeeChange> changes, long version, Instant fetchedAt) {
+        if (changes.isEmpty()) {
+            return new EmployeeSnapshot(this, fetchedAt, version);
+        }
+        Map<String, EmployeeDto> remainingDeletes = unconfirmedDeletes;
+        if (!unconfirmedDeletes.isEmpty()) {
+            remainingDeletes = new LinkedHashMap<>(unconfirmedDeletes);
+            changes = settleDeletes(changes, remainingDeletes);
+        }
+        if (changes.size() > employees.size() / INCREMENTAL_CHANGES_DIVISOR) {
+            return rebuiltWith(changes, version, fetchedAt, remainingDeletes);
+        }
+        Map<String, EmployeeDto> updatedById = new HashMap<>(employeesById);
+        // Ids of listed employees that are deleted or replaced, and creates in the order they end up appended.
+        Set<String> droppedIds = new HashSet<>();
+        Map<String, EmployeeDto> appended = new LinkedHashMap<>();
+        for (EmployeeChange change : changes) {
+            EmployeeDto employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            String id = employee.getId();
+            updatedById.remove(id);
+            appended.remove(id);
+            if (employeesById.containsKey(id)) {
+                droppedIds.add(id);
+            }
+            if (change.getType() == EmployeeChange.Type.CREATED) {
+                updatedById.put(id, employee);
+                appended.put(id, employee);
+            }
+        }
+
+        List<EmployeeDto> updated = new ArrayList<>(employees.size() + appended.size());
+        SalaryAggregate updatedSalaries = salaries;
+        if (droppedIds.isEmpty()) {
+            updated.addAll(employees);
+        } else {
+            List<EmployeeDto> dropped = new ArrayList<>(droppedIds.size());
+            for (EmployeeDto employee : employees) {
+                boolean drop = employee.getId() != null && droppedIds.contains(employee.getId());
+                (drop ? dropped : updated).add(employee);
+            }
+            updatedSalaries = salaries.withoutEmployees(dropped, updated);
+        }
+        for (EmployeeDto employee : appended.values()) {
+            updated.add(employee);
+            updatedSalaries = updatedSalaries.withEmployee(employee);
+        }
+        return new EmployeeSnapshot(updated, updatedById, updatedSalaries, fetchedAt, null, version, remainingDeletes);
+    }
+
+    /*
+     * Removes the unconfirmed deletes that the upstream's deletes in changes settle, and returns changes with a create
+     * after each delete that shows the upstream kept a locally deleted employee.
+     */
+    private static List<EmployeeChange> settleDeletes(
+            List<EmployeeChange> changes, Map<String, EmployeeDto> unconfirmedDeletes) {
+        List<EmployeeChange> settled = new ArrayList<>(changes.size());
+        for (EmployeeChange change : changes) {
+            settled.add(change);
+            EmployeeDto deleted = change.getEmployee();
+            if (change.getType() != EmployeeChange.Type.DELETED || deleted == null || unconfirmedDeletes.isEmpty()) {
+                continue;
+            }
+            if (unconfirmedDeletes.remove(deleted.getId()) != null || deleted.getEmployeeName() == null) {
+                continue;
+            }
+            for (EmployeeDto kept : unconfirmedDeletes.values()) {
+                if (deleted.getEmployeeName().equalsIgnoreCase(kept.getEmployeeName())) {
+                    unconfirmedDeletes.remove(kept.getId());
+                    settled.add(EmployeeChange.created(change.getVersion(), kept));
+                    break;
+                }
+            }
+        }
+        return settled;
+    }
+
+    private EmployeeSnapshot rebuiltWith(
+            List<EmployeeChange> changes, long version, Instant fetchedAt, Map<String, EmployeeDto> remainingDeletes) {
+        Map<String, EmployeeDto> updated = new LinkedHashMap<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (EmployeeDto employee : employees) {
+            updated.put(employee.getId(), employee);
+        }
+        for (EmployeeChange change : changes) {
+            EmployeeDto employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                continue;
+            }
+            updated.remove(employee.getId());
+            if (change.getType() == EmployeeChange.Type.CREATED) {
+                updated.put(employee.getId(), employee);
+            }
+        }
+        List<EmployeeDto> rebuilt = new ArrayList<>(updated.values());
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(
+                rebuilt, indexById(rebuilt), SalaryAggregate.of(rebuilt), fetchedAt, null, version, remainingDeletes);
+        snapshot.nameIndex();
+        return snapshot;
+    }
+
+    private static Map<String, EmployeeDto> indexById(List<EmployeeDto> employees) {
+        Map<String, EmployeeDto> index = new HashMap<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (EmployeeDto employee : employees) {
+            if (employee.getId() != null) {
+                index.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case-folded trigram index over employee names, built once per {@link EmployeeSnapshot}.
+ *
+ * <p>Matching is defined exactly as {@code name.toLowerCase().contains(search.toLowerCase())}. Names are folded once at
+ * build time; searches of three or more characters intersect the posting lists of the search's trigrams and verify the
+ * surviving candidates, shorter searches scan the pre-folded names. Results keep employee list order.
+ */
+final class NameIndex {
+    private static final int GRAM = 3;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final List<EmployeeDto> employees;
+    private final String[] foldedNames;
+    // Trigram (three chars packed into a long) -> ascending positions in employees.
+    private final Map<Long, int[]> postings;
+
+    private NameIndex(List<EmployeeDto> employees, String[] foldedNames, Map<Long, int[]> postings) {
+        this.employees = employees;
+        this.foldedNames = foldedNames;
+        this.postings = postings;
+    }
+
+    static NameIndex of(List<EmployeeDto> employees) {
+        String[] foldedNames = new String[employees.size()];
+        Map<Long, PositionList> builders = new HashMap<>();
+        for (int position = 0; position < employees.size(); position++) {
+            String name = employees.get(position).getEmployeeName();
+            if (name == null) {
+                continue;
+            }
+            String folded = name.toLowerCase();
+            foldedNames[position] = folded;
+            for (int start = 0; start + GRAM <= folded.length(); start++) {
+                // Positions are visited in ascending order, so a repeated trigram within one name is always last.
+                builders.computeIfAbsent(trigram(folded, start), ignored -> new PositionList())
+                        .addIfLast(position);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((gram, positions) -> postings.put(gram, positions.toArray()));
+        return new NameIndex(employees, foldedNames, postings);
+    }
+
+    List<EmployeeDto> search(String searchString) {
+        String folded = searchString.toLowerCase();
+        if (folded.length() < GRAM) {
+            return scan(folded);
+        }
+
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int start = 0; start + GRAM <= folded.length(); start++) {
+            grams.add(trigram(folded, start));
+        }
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (Long gram : grams) {
+            int[] positions = postings.getOrDefault(gram, NO_POSITIONS);
+            if (positions.length == 0) {
+                return List.of();
+            }
+            lists.add(positions);
+        }
+        lists.sort(Comparator.comparingInt(positions -> positions.length));
+
+        int[] candidates = lists.get(0);
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            candidates = intersect(candidates, count, lists.get(i));
+            count = candidates.length;
+        }
+
+        List<EmployeeDto> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int position = candidates[i];
+            // Sharing every trigram doesn't guarantee they are adjacent, so confirm the actual substring.
+            if (foldedNames[position].contains(folded)) {
+                matches.add(employees.get(position));
+            }
+        }
+        return matches;
+    }
+
+    private List<EmployeeDto> scan(String folded) {
+        List<EmployeeDto> matches = new ArrayList<>();
+        for (int position = 0; position < foldedNames.length; position++) {
+            if (foldedNames[position] != null && foldedNames[position].contains(folded)) {
+                matches.add(employees.get(position));
+            }
+        }
+        return matches;
+    }
+
+    private static int[] intersect(int[] smaller, int count, int[] larger) {
+        int[] result = new int[count];
+        int size = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < larger.length; i++) {
+            int found = Arrays.binarySearch(larger, from, larger.length, smaller[i]);
+            if (found >= 0) {
+                result[size++] = smaller[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return size == count ? result : Arrays.copyOf(result, size);
+    }
+
+    private static long trigram(String folded, int start) {
+        return ((long) folded.charAt(start) << 32) | ((long) folded.charAt(start + 1) << 16) | folded.charAt(start + 2);
+    }
+
+    private static final class PositionList {
+        private int[] positions = new int[4];
+        private int size;
+
+        void addIfLast(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
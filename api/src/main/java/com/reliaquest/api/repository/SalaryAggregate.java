@@ -0,0 +1,144 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Immutable salary leaderboard kept alongside an {@link EmployeeSnapshot}.
+ *
+ * <p>Holds the highest earners ordered exactly like a stable descending sort of the employee list would order them
+ * (equal salaries keep list order). A few more than {@link #TOP_K} leaders are retained so that deletions rarely force a
+ * rescan: appends and deletions are O(capacity), and only once the retained prefix falls below {@link #TOP_K} is it
+ * rebuilt from the full list.
+ */
+final class SalaryAggregate {
+    static final int TOP_K = 10;
+    private static final int CAPACITY = TOP_K * 4;
+
+    private static final SalaryAggregate EMPTY = new SalaryAggregate(List.of(), 0);
+
+    // Highest earners in rank order; always the exact leading prefix of the full ranking.
+    private final List<EmployeeDto> leaders;
+    private final int employeeCount;
+
+    private SalaryAggregate(List<EmployeeDto> leaders, int employeeCount) {
+        this.leaders = leaders;
+        this.employeeCount = employeeCount;
+    }
+
+    static SalaryAggregate of(List<EmployeeDto> employees) {
+        if (employees.isEmpty()) {
+            return EMPTY;
+        }
+        // Min-heap on rank: the root is the lowest salary and, among equal salaries, the latest in list order.
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(CAPACITY + 1, Ranked.BY_RANK.reversed());
+        for (int i = 0; i < employees.size(); i++) {
+            heap.offer(new Ranked(employees.get(i), i));
+            if (heap.size() > CAPACITY) {
+                heap.poll();
+            }
+        }
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(Ranked.BY_RANK);
+        List<EmployeeDto> leaders = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> leaders.add(entry.employee()));
+        return new SalaryAggregate(Collections.unmodifiableList(leaders), employees.size());
+    }
+
+    int highestSalary() {
+        return leaders.isEmpty() ? 0 : leaders.get(0).getEmployeeSalary();
+    }
+
+    List<String> topEarnerNames() {
+        int limit = Math.min(TOP_K, leaders.size());
+        List<String> names = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            names.add(leaders.get(i).getEmployeeName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the aggregate after {@code employee} has been appended to the end of the employee list.
+     */
+    SalaryAggregate withEmployee(EmployeeDto employee) {
+        int salary = employee.getEmployeeSalary();
+        boolean holdsEveryone = leaders.size() == employeeCount;
+        // Appended employees rank after everyone earning the same or more, including employees outside the prefix,
+        // so they only join a partial prefix by strictly out-earning its last member.
+        if (!holdsEveryone && salary <= leaders.get(leaders.size() - 1).getEmployeeSalary()) {
+            return new SalaryAggregate(leaders, employeeCount + 1);
+        }
+        int position = 0;
+        while (position < leaders.size() && leaders.get(position).getEmployeeSalary() >= salary) {
+            position++;
+        }
+        if (position >= CAPACITY) {
+            return new SalaryAggregate(leaders, employeeCount + 1);
+        }
+        List<EmployeeDto> updated = new ArrayList<>(Math.min(leaders.size() + 1, CAPACITY));
+        updated.addAll(leaders.subList(0, position));
+        updated.add(employee);
+        updated.addAll(leaders.subList(position, Math.min(leaders.size(), CAPACITY - 1)));
+        return new SalaryAggregate(Collections.unmodifiableList(updated), employeeCount + 1);
+    }
+
+    /**
+     * Returns the aggregate after {@code employee} has been removed; {@code remaining} is the employee list without it
+     * and is only scanned if too few leaders are left to answer {@link #topEarnerNames()}.
+     */
+    SalaryAggregate withoutEmployee(EmployeeDto employee, List<EmployeeDto> remaining) {
+        int index = indexOf(employee);
+        if (index < 0) {
+            return new SalaryAggregate(leaders, employeeCount - 1);
+        }
+        List<EmployeeDto> updated = new ArrayList<>(leaders);
+        updated.remove(index);
+        if (updated.size() < TOP_K && updated.size() < remaining.size()) {
+            return of(remaining);
+        }
+        return new SalaryAggregate(Collections.unmodifiableList(updated), employeeCount - 1);
+    }
+
+    /**
+     * Returns the aggregate after every employee in {@code removed} has been removed at once; {@code remaining} is the
+     * employee list without them and is only scanned if too few leaders are left.
+     */
+    SalaryAggregate withoutEmployees(Collection<EmployeeDto> removed, List<EmployeeDto> remaining) {
+        Set<EmployeeDto> gone = Collections.newSetFromMap(new IdentityHashMap<>());
+        gone.addAll(removed);
+        List<EmployeeDto> updated = new ArrayList<>(leaders.size());
+        for (EmployeeDto leader : leaders) {
+            if (!gone.contains(leader)) {
+                updated.add(leader);
+            }
+        }
+        if (updated.size() < TOP_K && updated.size() < remaining.size()) {
+            return of(remaining);
+        }
+        return new SalaryAggregate(Collections.unmodifiableList(updated), remaining.size());
+    }
+
+    private int indexOf(EmployeeDto employee) {
+        for (int i = 0; i < leaders.size(); i++) {
+            if (leaders.get(i) == employee) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Ranked(EmployeeDto employee, int index) {
+        static final Comparator<Ranked> BY_RANK = Comparator.comparingInt(
+                        (Ranked ranked) -> ranked.employee().getEmployeeSalary())
+                .reversed()
+                .thenComparingInt(Ranked::index);
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * How a repository's reads were served by its employee snapshot, published as:
+ *
+ * <ul>
+ *   <li>{@code employee.snapshot.reads}: reads by {@code result}: {@code fresh}, {@code stale} (served while a refresh
+ *       runs) or {@code miss} (waited for a load because there was no snapshot yet)
+ *   <li>{@code employee.snapshot.hit.ratio}: share of reads served without waiting on the upstream
+ *   <li>{@code employee.snapshot.age}: seconds since the snapshot was last loaded in full from the upstream
+ *   <li>{@code employee.snapshot.employees}: employees in the snapshot
+ * </ul>
+ *
+ * Reads are counted from construction; the meters appear once the repository is bound to a registry.
+ */
+final class SnapshotMetrics {
+    private final LongAdder fresh = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+
+    void recordFresh() {
+        fresh.increment();
+    }
+
+    void recordStale() {
+        stale.increment();
+    }
+
+    void recordMiss() {
+        missed.increment();
+    }
+
+    double hitRatio() {
+        long hits = fresh.sum() + stale.sum();
+        long reads = hits + missed.sum();
+        return reads == 0 ? Double.NaN : (double) hits / reads;
+    }
+
+    void bindTo(MeterRegistry registry, Supplier<EmployeeSnapshot> current, Clock clock) {
+        reads(registry, "fresh", fresh);
+        reads(registry, "stale", stale);
+        reads(registry, "miss", missed);
+        Gauge.builder("employee.snapshot.hit.ratio", this, SnapshotMetrics::hitRatio)
+                .description("Share of snapshot reads served without waiting on the upstream")
+                .register(registry);
+        Gauge.builder("employee.snapshot.age", () -> {
+                    EmployeeSnapshot snapshot = current.get();
+                    return snapshot == null
+                            ? Double.NaN
+                            : Duration.between(snapshot.getFetchedAt(), clock.instant()).toMillis() / 1000d;
+                })
+                .description("Time since the snapshot was last loaded in full")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("employee.snapshot.employees", () -> {
+                    EmployeeSnapshot snapshot = current.get();
+                    return snapshot == null ? Double.NaN : snapshot.getEmployees().size();
+                })
+                .description("Employees in the snapshot")
+                .register(registry);
+    }
+
+    private static void reads(MeterRegistry registry, String result, LongAdder count) {
+        FunctionCounter.builder("employee.snapshot.reads", count, LongAdder::sum)
+                .description("Reads served from the employee snapshot")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The salary and name queries answered in one pass over a streamed employee list, without building the list.
+ *
+ * <p>Results are identical to those of {@link SalaryAggregate} and {@link NameIndex} over the deserialized list: the
+ * same stable descending salary ranking and the same {@code toLowerCase().contains} name matching.
+ */
+final class StreamingEmployeeAggregates {
+    private static final String ASCII_UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private StreamingEmployeeAggregates() {}
+
+    /**
+     * @return the highest salary, or 0 for an empty list
+     */
+    static int highestSalary(InputStream body) throws IOException {
+        int[] highest = {0};
+        boolean[] seen = {false};
+        EmployeeListStreamReader.read(body, employee -> {
+            if (!seen[0] || employee.salary() > highest[0]) {
+                highest[0] = employee.salary();
+                seen[0] = true;
+            }
+        });
+        return highest[0];
+    }
+
+    /**
+     * @return names of the {@code limit} highest earners; equal salaries keep list order
+     */
+    static List<String> topEarnerNames(InputStream body, int limit) throws IOException {
+        int[] salaries = new int[limit];
+        String[] names = new String[limit];
+        int[] size = {0};
+        EmployeeListStreamReader.read(body, employee -> {
+            int salary = employee.salary();
+            // Equal salaries keep list order, so a full board only admits a strictly higher salary.
+            if (limit == 0 || (size[0] == limit && salary <= salaries[limit - 1])) {
+                return;
+            }
+            int position = size[0];
+            while (position > 0 && salaries[position - 1] < salary) {
+                position--;
+            }
+            int moved = Math.min(size[0], limit - 1) - position;
+            System.arraycopy(salaries, position, salaries, position + 1, moved);
+            System.arraycopy(names, position, names, position + 1, moved);
+            salaries[position] = salary;
+            names[position] = employee.name();
+            size[0] = Math.min(size[0] + 1, limit);
+        });
+        return new ArrayList<>(Arrays.asList(names).subList(0, size[0]));
+    }
+
+    /**
+     * @return employees whose name contains {@code searchString}, ignoring case, in list order
+     */
+    static List<EmployeeDto> searchByName(InputStream body, String searchString) throws IOException {
+        String folded = searchString.toLowerCase();
+        // Under locales such as Turkish, ASCII letters do not fold to their ASCII lower case.
+        boolean asciiFoldsPlainly = ASCII_UPPER.toLowerCase().equals(ASCII_UPPER.toLowerCase(Locale.ROOT));
+        List<EmployeeDto> matches = new ArrayList<>();
+        EmployeeListStreamReader.read(body, employee -> {
+            if (employee.nameContains(folded, asciiFoldsPlainly)) {
+                matches.add(employee.toDto());
+            }
+        });
+        return matches;
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.AsyncEmployeeRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "async")
+public class AsyncEmployeeService implements IAsyncEmployeeService {
+    private final AsyncEmployeeRepository employeeRepository;
+
+    @Autowired
+    public AsyncEmployeeService(AsyncEmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    public CompletableFuture<List<EmployeeDto>> getAllEmployees() {
+        return employeeRepository.fetchAllEmployees();
+    }
+
+    public CompletableFuture<List<EmployeeDto>> getEmployeesByNameSearch(String searchString) {
+        return employeeRepository.fetchEmployeesByName(searchString);
+    }
+
+    public CompletableFuture<Optional<EmployeeDto>> getEmployeeById(String id) {
+        return employeeRepository.fetchEmployeeById(id);
+    }
+
+    public CompletableFuture<Integer> getHighestSalary() {
+        return employeeRepository.fetchHighestSalary();
+    }
+
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return employeeRepository.fetchTopTenHighestEarningEmployeeNames();
+    }
+
+    public CompletableFuture<Optional<EmployeeDto>> createEmployee(CreateEmployeeRequest request) {
+        return employeeRepository.createEmployee(request).whenComplete((result, failure) -> {
+            if (failure != null) {
+                log.error("Error in createEmployee API", unwrap(failure));
+            } else if (result.isPresent()) {
+                log.info("Created employee with id: {}", result.get().getId());
+            } else {
+                log.warn("Unable to create employee with given details: {}", request.getName());
+            }
+        });
+    }
+
+    public CompletableFuture<Boolean> deleteEmployeeById(String id) {
+        log.info("Deleting employee with id: {}", id);
+        return employeeRepository.deleteEmployeeById(id).handle((deleted, failure) -> {
+            if (failure == null) {
+                if (deleted) {
+                    log.info("Successfully deleted employee with id: {}", id);
+                } else {
+                    log.warn("Employee with id: {} not found", id);
+                }
+                return deleted;
+            }
+            Throwable cause = unwrap(failure);
+            if (cause instanceof HttpClientErrorException.NotFound) {
+                log.error("Employee with id: {} not found", id);
+                return false;
+            }
+            if (cause instanceof HttpClientErrorException || cause instanceof HttpServerErrorException) {
+                throw new CompletionException(cause);
+            }
+            log.error("Unexpected error in deleteEmployee", cause);
+            throw new CompletionException(new RuntimeException("Failed to delete employee. Please try again."));
+        });
+    }
+
+    public CompletableFuture<Map<String, DeleteOutcome>> deleteEmployeesByIds(List<String> ids) {
+        log.info("Deleting {} employees", ids.size());
+        return employeeRepository
+                .deleteEmployeesByIds(ids)
+                .whenComplete((outcomes, failure) -> log.info("Batch delete finished: {}", outcomes));
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
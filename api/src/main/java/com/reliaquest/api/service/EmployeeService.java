@@ -1,9 +1,11 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.repository.EmployeeRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import lombok.extern.slf4j.Slf4j;
@@ -56,7 +58,10 @@ public class EmployeeService implements IEmployeeService {
     public boolean deleteEmployeeById(String id) {
         try {
             log.info("Deleting employee with id: {}", id);
-            employeeRepository.deleteEmployeeById(id);
+            if (!employeeRepository.deleteEmployeeById(id)) {
+                log.warn("Employee with id: {} not found", id);
+                return false;
+            }
             log.info("Successfully deleted employee with id: {}", id);
             return true;
         } catch (HttpClientErrorException.NotFound e){
@@ -70,4 +75,11 @@ public class EmployeeService implements IEmployeeService {
             throw new RuntimeException("Failed to delete employee. Please try again.");
         }
     }
+
+    public Map<String, DeleteOutcome> deleteEmployeesByIds(List<String> ids) {
+        log.info("Deleting {} employees", ids.size());
+        Map<String, DeleteOutcome> outcomes = employeeRepository.deleteEmployeesByIds(ids);
+        log.info("Batch delete finished: {}", outcomes);
+        return outcomes;
+    }
 }
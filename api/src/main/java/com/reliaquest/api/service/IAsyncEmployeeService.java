@@ -0,0 +1,30 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link IEmployeeService}: the same operations, completing once the upstream has answered.
+ */
+public interface IAsyncEmployeeService {
+    CompletableFuture<List<EmployeeDto>> getAllEmployees();
+
+    CompletableFuture<List<EmployeeDto>> getEmployeesByNameSearch(String searchString);
+
+    CompletableFuture<Optional<EmployeeDto>> getEmployeeById(String id);
+
+    CompletableFuture<Integer> getHighestSalary();
+
+    CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    CompletableFuture<Optional<EmployeeDto>> createEmployee(CreateEmployeeRequest request);
+
+    CompletableFuture<Boolean> deleteEmployeeById(String id);
+
+    CompletableFuture<Map<String, DeleteOutcome>> deleteEmployeesByIds(List<String> ids);
+}
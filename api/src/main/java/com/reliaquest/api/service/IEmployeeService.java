@@ -1,8 +1,10 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IEmployeeService {
@@ -19,4 +21,6 @@ public interface IEmployeeService {
     Optional<EmployeeDto> createEmployee(CreateEmployeeRequest request);
 
     boolean deleteEmployeeById(String id);
+
+    Map<String, DeleteOutcome> deleteEmployeesByIds(List<String> ids);
 }
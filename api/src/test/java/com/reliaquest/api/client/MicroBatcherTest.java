@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+public class MicroBatcherTest {
+
+    private final List<List<Integer>> sentBatches = new CopyOnWriteArrayList<>();
+    private final List<Integer> sentAlone = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testFullBatchIsSentImmediately() {
+        MicroBatcher<Integer, String> batcher = batcher(this::echo, 3, Duration.ofMinutes(1));
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            results.add(batcher.submit(i));
+        }
+
+        assertEquals(List.of(List.of(1, 2, 3)), sentBatches);
+        assertEquals(List.of("1", "2", "3"), results.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Test
+    void testPartialBatchIsSentWhenWindowCloses() {
+        MicroBatcher<Integer, String> batcher = batcher(this::echo, 10, Duration.ofMillis(20));
+
+        CompletableFuture<String> first = batcher.submit(1);
+        CompletableFuture<String> second = batcher.submit(2);
+
+        assertEquals("1", first.join());
+        assertEquals("2", second.join());
+        assertEquals(List.of(List.of(1, 2)), sentBatches);
+    }
+
+    @Test
+    void testLoneCallIsSentOnItsOwn() {
+        MicroBatcher<Integer, String> batcher = batcher(this::echo, 10, Duration.ofMillis(20));
+
+        assertEquals("1", batcher.submit(1).join());
+        assertTrue(sentBatches.isEmpty());
+        assertEquals(List.of(1), sentAlone);
+    }
+
+    @Test
+    void testBatchRejectedAsWholeIsRetriedOneByOne() {
+        MicroBatcher<Integer, String> batcher = batcher(
+                inputs -> {
+                    if (inputs.contains(-1)) {
+                        throw new IllegalArgumentException("invalid input");
+                    }
+                    return echo(inputs);
+                },
+                2,
+                Duration.ofMinutes(1));
+
+        CompletableFuture<String> valid = batcher.submit(1);
+        CompletableFuture<String> invalid = batcher.submit(-1);
+
+        assertEquals("1", valid.join());
+        assertThrows(IllegalArgumentException.class, () -> BoundedParallelCalls.join(invalid));
+        assertEquals(List.of(-1, 1), sentAlone.stream().sorted().toList());
+    }
+
+    @Test
+    void testIsolatedRetriesRunInParallel() {
+        CountDownLatch allRetrying = new CountDownLatch(3);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            MicroBatcher<Integer, String> batcher = new MicroBatcher<>(
+                    inputs -> {
+                        throw new IllegalArgumentException("invalid input");
+                    },
+                    input -> {
+                        allRetrying.countDown();
+                        try {
+                            // Only returns in time if no retry waits for another to finish.
+                            assertTrue(allRetrying.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        }
+                        return String.valueOf(input);
+                    },
+                    3,
+                    Duration.ofMinutes(1),
+                    executor,
+                    failure -> failure instanceof IllegalArgumentException);
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                results.add(batcher.submit(i));
+            }
+
+            assertEquals(List.of("1", "2", "3"), results.stream().map(CompletableFuture::join).toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOtherFailuresFailEveryCallerInTheBatch() {
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(
+                inputs -> {
+                    throw new IllegalStateException("upstream unavailable");
+                },
+                this::echoAlone,
+                2,
+                Duration.ofMinutes(1),
+                ForkJoinPool.commonPool(),
+                failure -> failure instanceof IllegalArgumentException);
+
+        CompletableFuture<String> first = batcher.submit(1);
+        CompletableFuture<String> second = batcher.submit(2);
+
+        assertThrows(IllegalStateException.class, () -> BoundedParallelCalls.join(first));
+        assertThrows(IllegalStateException.class, () -> BoundedParallelCalls.join(second));
+    }
+
+    private MicroBatcher<Integer, String> batcher(
+            Function<List<Integer>, List<String>> batchCall, int maxBatchSize, Duration window) {
+        return new MicroBatcher<>(
+                batchCall,
+                this::echoAlone,
+                maxBatchSize,
+                window,
+                ForkJoinPool.commonPool(),
+                failure -> failure instanceof IllegalArgumentException);
+    }
+
+    private List<String> echo(List<Integer> inputs) {
+        sentBatches.add(List.copyOf(inputs));
+        return inputs.stream().map(String::valueOf).toList();
+    }
+
+    private String echoAlone(Integer input) {
+        sentAlone.add(input);
+        if (input < 0) {
+            throw new IllegalArgumentException("invalid input");
+        }
+        return String.valueOf(input);
+    }
+}
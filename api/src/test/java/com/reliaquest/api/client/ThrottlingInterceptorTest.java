@@ -0,0 +1,81 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.never;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+public class ThrottlingInterceptorTest {
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private UpstreamThrottle throttle;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new UpstreamThrottle(
+                100, 1, 100, 1, 10, Duration.ofMillis(10), Duration.ofMillis(10), System::nanoTime);
+        restTemplate = new RestTemplate();
+        restTemplate
+                .getInterceptors()
+                .add(new ThrottlingInterceptor(throttle, Duration.ofSeconds(1), 3, Duration.ofMillis(5)));
+        mockServer = MockRestServiceServer.createServer(restTemplate);
+    }
+
+    @Test
+    void testRetriesTooManyRequestsWithinDeadline() {
+        mockServer.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        mockServer.expect(requestTo(URL)).andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        assertEquals("ok", restTemplate.getForObject(URL, String.class));
+        assertTrue(throttle.currentRate() < 100);
+        mockServer.verify();
+    }
+
+    @Test
+    void testGivesUpAfterMaxRetries() {
+        mockServer.expect(times(4), requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> restTemplate.getForObject(URL, String.class));
+        mockServer.verify();
+    }
+
+    @Test
+    void testReturnsUpstreamTooManyRequestsWhenRetryAfterOutlastsDeadline() {
+        HttpHeaders retryAfter = new HttpHeaders();
+        retryAfter.set(HttpHeaders.RETRY_AFTER, "60");
+        mockServer.expect(times(1), requestTo(URL))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(retryAfter));
+
+        long started = System.nanoTime();
+        HttpClientErrorException exception = assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> restTemplate.getForObject(URL, String.class));
+        assertTrue(System.nanoTime() - started < Duration.ofMillis(500).toNanos());
+        // The upstream's own response, not the local one sent when no permit can be had.
+        assertEquals("", exception.getResponseBodyAsString());
+        mockServer.verify();
+    }
+
+    @Test
+    void testFailsFastWhenCooldownOutlastsDeadline() {
+        throttle.onThrottled(Duration.ofMinutes(1));
+        mockServer.expect(never(), requestTo(URL));
+
+        HttpClientErrorException exception = assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> restTemplate.getForObject(URL, String.class));
+        assertEquals("60", exception.getResponseHeaders().getFirst("Retry-After"));
+        mockServer.verify();
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+public class UpstreamMetricsTest {
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private SimpleMeterRegistry registry;
+    private UpstreamMetrics metrics;
+    private UpstreamThrottle throttle;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new UpstreamMetrics(registry, URL);
+        throttle = new UpstreamThrottle(
+                100, 1, 100, 1, 10, Duration.ofMillis(10), Duration.ofMillis(10), System::nanoTime);
+        restTemplate = new RestTemplate();
+        restTemplate
+                .getInterceptors()
+                .add(new ThrottlingInterceptor(throttle, Duration.ofSeconds(1), 3, Duration.ofMillis(5), metrics));
+        mockServer = MockRestServiceServer.createServer(restTemplate);
+    }
+
+    @Test
+    void testEachAttemptIsTimedAndRetriesAreCounted() {
+        mockServer.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        mockServer.expect(requestTo(URL)).andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        restTemplate.getForObject(URL, String.class);
+
+        assertEquals(1, attempts("list", "429"));
+        assertEquals(1, attempts("list", "200"));
+        assertEquals(1.0, counter("employee.upstream.retries", "list"));
+        mockServer.verify();
+    }
+
+    @Test
+    void testAttemptIsTimedWithoutThrottle() {
+        RestTemplate unthrottled = new RestTemplate();
+        unthrottled.getInterceptors().add(new UpstreamMetricsInterceptor(metrics));
+        MockRestServiceServer server = MockRestServiceServer.createServer(unthrottled);
+        server.expect(requestTo(URL)).andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        unthrottled.getForObject(URL, String.class);
+
+        assertEquals(1, attempts("list", "200"));
+        server.verify();
+    }
+
+    @Test
+    void testLocalRejectionIsCountedWithoutAnAttempt() {
+        throttle.onThrottled(Duration.ofMinutes(1));
+
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class, () -> restTemplate.getForObject(URL, String.class));
+
+        assertEquals(1.0, counter("employee.upstream.rejections", "list"));
+        assertNull(registry.find("employee.upstream.requests").timer());
+    }
+
+    @Test
+    void testCallsAreNamedRelativeToBaseUrl() {
+        assertEquals("list", metrics.call("GET", URI.create(URL)));
+        assertEquals("page", metrics.call("GET", URI.create(URL + "/page?offset=0&limit=100")));
+        assertEquals("changes", metrics.call("GET", URI.create(URL + "/changes?since=42")));
+        assertEquals("get", metrics.call("GET", URI.create(URL + "/4a3a170b")));
+        assertEquals("create", metrics.call("POST", URI.create(URL)));
+        assertEquals("bulk-create", metrics.call("POST", URI.create(URL + "/bulk")));
+        assertEquals("delete", metrics.call("DELETE", URI.create(URL)));
+    }
+
+    private long attempts(String call, String status) {
+        return registry.get("employee.upstream.requests")
+                .tags("call", call, "status", status)
+                .timer()
+                .count();
+    }
+
+    private double counter(String name, String call) {
+        return registry.get(name).tag("call", call).counter().count();
+    }
+}
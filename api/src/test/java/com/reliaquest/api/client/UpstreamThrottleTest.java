@@ -0,0 +1,86 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UpstreamThrottleTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now;
+    private UpstreamThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        throttle = new UpstreamThrottle(2, 0.5, 10, 1, 2, Duration.ofSeconds(1), Duration.ofSeconds(8), () -> now);
+    }
+
+    @Test
+    void testBurstThenPacedAtRate() {
+        assertEquals(0, throttle.reserve(Long.MAX_VALUE));
+        assertEquals(0, throttle.reserve(Long.MAX_VALUE));
+        // Bucket empty: the next permit is half a second away at 2 permits/s, the one after a full second.
+        assertEquals(SECOND / 2, throttle.reserve(Long.MAX_VALUE));
+        assertEquals(SECOND, throttle.reserve(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testReserveFailsWithoutConsumingWhenDeadlineTooClose() {
+        throttle.reserve(Long.MAX_VALUE);
+        throttle.reserve(Long.MAX_VALUE);
+
+        assertEquals(-1, throttle.reserve(SECOND / 4));
+        assertEquals(SECOND / 2, throttle.reserve(SECOND / 2));
+    }
+
+    @Test
+    void testThrottleHalvesRateAndHonoursRetryAfter() {
+        throttle.onThrottled(Duration.ofSeconds(5));
+
+        assertEquals(1, throttle.currentRate());
+        assertEquals(Duration.ofSeconds(5), throttle.remainingCooldown());
+        assertEquals(-1, throttle.reserve(4 * SECOND));
+        // One probe is allowed as soon as the cool-down ends, the next one waits for the reduced rate.
+        assertEquals(5 * SECOND, throttle.reserve(Long.MAX_VALUE));
+        assertEquals(6 * SECOND, throttle.reserve(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testThrottleKeepsDebtOfOutstandingReservations() {
+        throttle.reserve(Long.MAX_VALUE);
+        throttle.reserve(Long.MAX_VALUE);
+        assertEquals(SECOND / 2, throttle.reserve(Long.MAX_VALUE));
+
+        throttle.onThrottled(Duration.ofSeconds(5));
+
+        // The bucket is one permit in debt, so at the halved rate of 1/s the probe is due 2s after the cool-down.
+        assertEquals(7 * SECOND, throttle.reserve(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testDefaultCooldownGrowsWithConsecutiveThrottles() {
+        throttle.onThrottled(null);
+        assertEquals(Duration.ofSeconds(1), throttle.remainingCooldown());
+
+        now += SECOND;
+        throttle.onThrottled(null);
+        assertEquals(Duration.ofSeconds(2), throttle.remainingCooldown());
+
+        now += 2 * SECOND;
+        throttle.onSuccess();
+        throttle.onThrottled(null);
+        assertEquals(Duration.ofSeconds(1), throttle.remainingCooldown());
+    }
+
+    @Test
+    void testSuccessRaisesRateUpToMaximum() {
+        for (int i = 0; i < 20; i++) {
+            throttle.onSuccess();
+        }
+        assertEquals(10, throttle.currentRate());
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.AsyncUpstreamClient;
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.DeleteOutcome;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository.DeleteResponse;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeListResponse;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class AsyncEmployeeRepositoryTest {
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private AsyncUpstreamClient client;
+    private AsyncEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(AsyncUpstreamClient.class);
+        repository = new AsyncEmployeeRepository(
+                client, new UpstreamClientProperties(), Duration.ofSeconds(30), Runnable::run, Clock.systemUTC());
+    }
+
+    @Test
+    void testColdReadsShareOneLoadAndWarmReadsCompleteImmediately() {
+        CompletableFuture<EmployeeListResponse> load = new CompletableFuture<>();
+        when(client.get(URL, EmployeeListResponse.class)).thenReturn(load);
+
+        CompletableFuture<Integer> highestSalary = repository.fetchHighestSalary();
+        CompletableFuture<List<String>> topEarners = repository.fetchTopTenHighestEarningEmployeeNames();
+        assertFalse(highestSalary.isDone());
+
+        load.complete(listResponse(johnDoe(), janeDoe()));
+
+        assertEquals(90000, highestSalary.join());
+        assertEquals(List.of("Jane Doe", "John Doe"), topEarners.join());
+        CompletableFuture<List<EmployeeDto>> warm = repository.fetchEmployeesByName("john");
+        assertTrue(warm.isDone());
+        assertEquals("1", warm.join().get(0).getId());
+        verify(client, times(1)).get(URL, EmployeeListResponse.class);
+    }
+
+    @Test
+    void testFetchEmployeeByIdReturnsEmptyWhenNotFound() {
+        HttpClientErrorException notFound = HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null, new byte[0], StandardCharsets.UTF_8);
+        when(client.get(URL + "/1", EmployeeResponse.class)).thenReturn(CompletableFuture.failedFuture(notFound));
+
+        assertTrue(repository.fetchEmployeeById("1").join().isEmpty());
+    }
+
+    @Test
+    void testDeleteEmployeesByIdsResolvesNamesFromOneLoad() {
+        when(client.get(URL, EmployeeListResponse.class))
+                .thenReturn(CompletableFuture.completedFuture(listResponse(johnDoe(), janeDoe())));
+        DeleteResponse deleted = new DeleteResponse();
+        deleted.data = true;
+        when(client.send(eq("DELETE"), eq(URL), any(), eq(DeleteResponse.class)))
+                .thenReturn(CompletableFuture.completedFuture(deleted));
+
+        Map<String, DeleteOutcome> outcomes =
+                repository.deleteEmployeesByIds(List.of("1", "2", "3", "1")).join();
+
+        assertEquals(List.of("1", "2", "3"), List.copyOf(outcomes.keySet()));
+        assertEquals(DeleteOutcome.DELETED, outcomes.get("1"));
+        assertEquals(DeleteOutcome.DELETED, outcomes.get("2"));
+        assertEquals(DeleteOutcome.NOT_FOUND, outcomes.get("3"));
+        assertTrue(repository.fetchAllEmployees().join().isEmpty());
+        verify(client, times(2)).send(eq("DELETE"), eq(URL), any(), eq(DeleteResponse.class));
+    }
+
+    private static EmployeeListResponse listResponse(EmployeeDto... employees) {
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.data = List.of(employees);
+        return response;
+    }
+
+    private static EmployeeDto johnDoe() {
+        return new EmployeeDto("1", "John Doe", 70000, 30, "Engineer", "john.doe@example.com");
+    }
+
+    private static EmployeeDto janeDoe() {
+        return new EmployeeDto("2", "Jane Doe", 90000, 28, "Manager", "jane.doe@example.com");
+    }
+}
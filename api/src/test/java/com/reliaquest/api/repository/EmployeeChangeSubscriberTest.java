@@ -0,0 +1,141 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+public class EmployeeChangeSubscriberTest {
+
+    private static final EmployeeDto JOHN = new EmployeeDto("1", "John Doe", 70000, 30, "Engineer", "john@example.com");
+    private static final EmployeeDto JANE = new EmployeeDto("2", "Jane Doe", 90000, 28, "Manager", "jane@example.com");
+    private static final EmployeeDto JIM = new EmployeeDto("3", "Jim Doe", 60000, 35, "Analyst", "jim@example.com");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final List<String> streamRequests = new CopyOnWriteArrayList<>();
+    private volatile String events = "";
+
+    private HttpServer upstream;
+    private EmployeeRepository repository;
+    private EmployeeChangeSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/api/v1/employee", this::serve);
+        upstream.start();
+        String baseUrl = "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee";
+        UpstreamClientProperties properties = new UpstreamClientProperties();
+        properties.setBaseUrl(baseUrl);
+        repository = new EmployeeRepository(
+                new RestTemplate(),
+                properties,
+                Duration.ofSeconds(30),
+                true,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC());
+        subscriber = new EmployeeChangeSubscriber(repository, objectMapper, HttpClient.newHttpClient(), baseUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void testAppliesStreamedChangesInOrder() throws Exception {
+        long since = repository.versionedSnapshot().getVersion();
+        events = event("changes", changes(42, false, change(42, "CREATED", JIM)))
+                + event("changes", changes(42, false))
+                + event("changes", changes(43, false, change(43, "DELETED", JOHN)));
+
+        subscriber.follow(since);
+
+        EmployeeSnapshot snapshot = repository.versionedSnapshot();
+        assertEquals(43, snapshot.getVersion());
+        assertEquals(List.of("Jane Doe", "Jim Doe"), names(snapshot));
+        assertEquals(List.of("since=41"), streamRequests);
+        assertEquals(1, listRequests.get());
+    }
+
+    @Test
+    void testResyncReloadsWholeList() throws Exception {
+        long since = repository.versionedSnapshot().getVersion();
+        events = event("resync", changes(99, true));
+
+        subscriber.follow(since);
+
+        assertEquals(2, listRequests.get());
+    }
+
+    @Test
+    void testStopsAtChangesThatDoNotFollowOnFromSnapshot() throws Exception {
+        repository.versionedSnapshot();
+        events = event("changes", changes(43, false, change(43, "CREATED", JIM)))
+                + event("changes", changes(44, false, change(44, "DELETED", JOHN)));
+
+        // Subscribed from an older version than the snapshot's, so nothing may be applied on top of it.
+        subscriber.follow(40);
+
+        EmployeeSnapshot snapshot = repository.versionedSnapshot();
+        assertEquals(41, snapshot.getVersion());
+        assertEquals(List.of("John Doe", "Jane Doe"), names(snapshot));
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body;
+        if (path.endsWith("/changes/stream")) {
+            streamRequests.add(exchange.getRequestURI().getQuery());
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            body = events.getBytes(StandardCharsets.UTF_8);
+        } else {
+            listRequests.incrementAndGet();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set(EmployeeRepository.DATA_VERSION_HEADER, "41");
+            body = objectMapper.writeValueAsBytes(Map.of("data", List.of(JOHN, JANE)));
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String event(String name, String data) {
+        return "event:" + name + "\ndata:" + data + "\n\n";
+    }
+
+    @SafeVarargs
+    private String changes(long version, boolean resyncRequired, Map<String, Object>... changes) throws Exception {
+        return objectMapper.writeValueAsString(
+                Map.of("version", version, "resync_required", resyncRequired, "changes", List.of(changes)));
+    }
+
+    private static Map<String, Object> change(long version, String type, EmployeeDto employee) {
+        return Map.of("version", version, "type", type, "employee", employee);
+    }
+
+    private static List<String> names(EmployeeSnapshot snapshot) {
+        return snapshot.getEmployees().stream().map(EmployeeDto::getEmployeeName).toList();
+    }
+}
@@ -1,22 +1,45 @@
 package com.reliaquest.api.repository;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.config.UpstreamClientProperties;
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.repository.EmployeeRepository.EmployeeListResponse;
 import com.reliaquest.api.repository.EmployeeRepository.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootTest
@@ -52,6 +75,20 @@ public class EmployeeRepositoryTest {
         assertEquals("John Doe", employees.get(0).getEmployeeName());
     }
 
+    @Test
+    void testListIsRequestedAndDecodedAsSmile() throws Exception {
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.data = List.of(johnDoe());
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(response);
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(header(HttpHeaders.ACCEPT, startsWith("application/x-jackson-smile")))
+                .andRespond(withSuccess(smile, MediaType.parseMediaType("application/x-jackson-smile")));
+
+        assertEquals("John Doe", employeeRepository.fetchAllEmployees().get(0).getEmployeeName());
+        mockServer.verify();
+    }
+
     @Test
     void testFetchEmployeeById() throws Exception {
         EmployeeDto employee = new EmployeeDto("1", "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
@@ -66,6 +103,24 @@ public class EmployeeRepositoryTest {
         assertEquals("John Doe", result.get().getEmployeeName());
     }
 
+    @Test
+    void testFetchEmployeeByIdReturnsEmptyWhenNotFound() {
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee/1")).andRespond(withResourceNotFound());
+
+        assertTrue(employeeRepository.fetchEmployeeById("1").isEmpty());
+    }
+
+    @Test
+    void testFetchEmployeeByIdPropagatesRateLimiting() {
+        RestTemplate unthrottled = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.createServer(unthrottled);
+        server.expect(requestTo("http://localhost:8112/api/v1/employee/1"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        EmployeeRepository repository = new EmployeeRepository(unthrottled);
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> repository.fetchEmployeeById("1"));
+    }
+
     @Test
     void testCreateEmployee() throws Exception {
         CreateEmployeeRequest request = new CreateEmployeeRequest("John Doe", 50000, 30, "Engineer");
@@ -150,4 +205,464 @@ public class EmployeeRepositoryTest {
         assertEquals(2, employees.size());
         assertTrue(employees.stream().allMatch(emp -> emp.getEmployeeName().contains("Doe")));
     }
+
+    @Test
+    void testWarmSnapshotIsServedWithoutRefetching() throws Exception {
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe()), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.fetchHighestSalary();
+        List<EmployeeDto> employees = employeeRepository.fetchEmployeesByName("john");
+
+        assertEquals(1, employees.size());
+        mockServer.verify();
+    }
+
+    @Test
+    void testStaleSnapshotIsServedWhileRefreshRunsInBackground() throws Exception {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ZERO,
+                true,
+                pendingRefreshes::add,
+                Clock.systemUTC());
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe()), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+
+        assertEquals(1, employeeRepository.fetchAllEmployees().size());
+        // Stale: the old snapshot is returned immediately and exactly one refresh is queued.
+        assertEquals(1, employeeRepository.fetchAllEmployees().size());
+        assertEquals(1, employeeRepository.fetchAllEmployees().size());
+        assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.remove(0).run();
+
+        assertEquals(2, employeeRepository.fetchAllEmployees().size());
+        mockServer.verify();
+    }
+
+    @Test
+    void testRefreshReusesSnapshotWhenUpstreamReportsNotModified() throws Exception {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ZERO,
+                true,
+                pendingRefreshes::add,
+                Clock.systemUTC());
+        HttpHeaders etag = new HttpHeaders();
+        etag.setETag("\"v1\"");
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(listResponse(johnDoe()), MediaType.APPLICATION_JSON).headers(etag));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        List<EmployeeDto> first = employeeRepository.fetchAllEmployees();
+        employeeRepository.fetchAllEmployees();
+        pendingRefreshes.remove(0).run();
+
+        assertSame(first, employeeRepository.fetchAllEmployees());
+        mockServer.verify();
+    }
+
+    @Test
+    void testLocallyMutatedSnapshotIsRefetchedUnconditionally() throws Exception {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ZERO,
+                true,
+                pendingRefreshes::add,
+                Clock.systemUTC());
+        HttpHeaders etag = new HttpHeaders();
+        etag.setETag("\"v1\"");
+        EmployeeResponse created = new EmployeeResponse();
+        created.data = janeDoe();
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe()), MediaType.APPLICATION_JSON).headers(etag));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.POST))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(created), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.createEmployee(new CreateEmployeeRequest("Jane Doe", 90000, 28, "Manager"));
+        employeeRepository.fetchAllEmployees();
+        pendingRefreshes.remove(0).run();
+
+        assertEquals(2, employeeRepository.fetchAllEmployees().size());
+        mockServer.verify();
+    }
+
+    @Test
+    void testRefreshRacingLocalCreateIsRepeatedRatherThanStored() throws Exception {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ZERO,
+                true,
+                pendingRefreshes::add,
+                Clock.systemUTC());
+        EmployeeResponse created = new EmployeeResponse();
+        created.data = janeDoe();
+        String staleList = listResponse(johnDoe());
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(staleList, MediaType.APPLICATION_JSON));
+        // The refresh reads the list, then a create is confirmed before the refresh stores what it read.
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.GET))
+                .andRespond(request -> {
+                    employeeRepository.createEmployee(new CreateEmployeeRequest("Jane Doe", 90000, 28, "Manager"));
+                    return withSuccess(staleList, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.POST))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(created), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.GET))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.fetchAllEmployees();
+        pendingRefreshes.remove(0).run();
+
+        assertEquals(2, employeeRepository.fetchAllEmployees().size());
+        mockServer.verify();
+    }
+
+    @Test
+    void testRefreshReplaysUpstreamChangesSinceListVersion() throws Exception {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ZERO,
+                true,
+                pendingRefreshes::add,
+                Clock.systemUTC());
+        HttpHeaders version = new HttpHeaders();
+        version.set(EmployeeRepository.DATA_VERSION_HEADER, "41");
+        EmployeeDto created = new EmployeeDto("3", "Jim Doe", 60000, 35, "Analyst", "jim.doe@example.com");
+
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON)
+                        .headers(version));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee/changes?since=41"))
+                .andRespond(withSuccess(
+                        changesResponse(43, false, change(42, "CREATED", created), change(43, "DELETED", johnDoe())),
+                        MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee/changes?since=43"))
+                .andRespond(withSuccess(changesResponse(45, true), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(janeDoe()), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.fetchAllEmployees();
+        pendingRefreshes.remove(0).run();
+
+        List<EmployeeDto> employees = employeeRepository.fetchAllEmployees();
+        assertEquals(List.of("Jane Doe", "Jim Doe"), employees.stream().map(EmployeeDto::getEmployeeName).toList());
+        assertEquals(90000, employeeRepository.fetchHighestSalary());
+
+        // Too far behind: the upstream asks for a resync and the whole list is fetched again.
+        pendingRefreshes.remove(0).run();
+        assertEquals(1, employeeRepository.fetchAllEmployees().size());
+        mockServer.verify();
+    }
+
+    @Test
+    void testSnapshotReadsArePublishedAsMetrics() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        employeeRepository.bindTo(registry);
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.fetchHighestSalary();
+        employeeRepository.fetchEmployeesByName("doe");
+
+        assertEquals(1.0, registry.get("employee.snapshot.reads").tag("result", "miss").functionCounter().count());
+        assertEquals(2.0, registry.get("employee.snapshot.reads").tag("result", "fresh").functionCounter().count());
+        assertEquals(2.0 / 3, registry.get("employee.snapshot.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(2.0, registry.get("employee.snapshot.employees").gauge().value());
+        mockServer.verify();
+    }
+
+    @Test
+    void testCreateEmployeeIsAppliedToWarmSnapshot() throws Exception {
+        EmployeeResponse created = new EmployeeResponse();
+        created.data = janeDoe();
+
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.GET))
+                .andRespond(withSuccess(listResponse(johnDoe()), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.POST))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(created), MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+        employeeRepository.createEmployee(new CreateEmployeeRequest("Jane Doe", 90000, 28, "Manager"));
+
+        assertEquals(90000, employeeRepository.fetchHighestSalary());
+        mockServer.verify();
+    }
+
+    @Test
+    void testConcurrentCreatesShareOneBulkRequest() throws Exception {
+        UpstreamClientProperties properties = new UpstreamClientProperties();
+        properties.setCreateBatchSize(2);
+        properties.setCreateBatchWindow(Duration.ofMinutes(1));
+        EmployeeRepository repository = new EmployeeRepository(
+                restTemplate, properties, Duration.ofSeconds(30), true, ForkJoinPool.commonPool(), Clock.systemUTC());
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee/bulk"))
+                .andExpect(method(org.springframework.http.HttpMethod.POST))
+                .andRespond(request -> {
+                    // Echo each requested name back as the created employee's id, in request order.
+                    String body = ((MockClientHttpRequest) request).getBodyAsString();
+                    List<EmployeeDto> created = new ArrayList<>();
+                    objectMapper.readTree(body).get("employees").forEach(input -> {
+                        String name = input.get("name").asText();
+                        created.add(new EmployeeDto(name, name, input.get("salary").asInt(), 30, "Engineer", null));
+                    });
+                    EmployeeListResponse response = new EmployeeListResponse();
+                    response.data = created;
+                    return withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON)
+                            .createResponse(request);
+                });
+
+        CompletableFuture<Optional<EmployeeDto>> jane = CompletableFuture.supplyAsync(
+                () -> repository.createEmployee(new CreateEmployeeRequest("Jane Doe", 90000, 28, "Manager")));
+        CompletableFuture<Optional<EmployeeDto>> john = CompletableFuture.supplyAsync(
+                () -> repository.createEmployee(new CreateEmployeeRequest("John Doe", 70000, 30, "Engineer")));
+
+        assertEquals("Jane Doe", jane.get(10, TimeUnit.SECONDS).orElseThrow().getId());
+        assertEquals(70000, john.get(10, TimeUnit.SECONDS).orElseThrow().getEmployeeSalary());
+        mockServer.verify();
+    }
+
+    @Test
+    void testLoneCreateIsPostedOnItsOwn() throws Exception {
+        UpstreamClientProperties properties = new UpstreamClientProperties();
+        properties.setCreateBatchSize(50);
+        properties.setCreateBatchWindow(Duration.ofMillis(5));
+        EmployeeRepository repository = new EmployeeRepository(
+                restTemplate, properties, Duration.ofSeconds(30), true, ForkJoinPool.commonPool(), Clock.systemUTC());
+        EmployeeResponse created = new EmployeeResponse();
+        created.data = janeDoe();
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.POST))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(created), MediaType.APPLICATION_JSON));
+
+        Optional<EmployeeDto> employee =
+                repository.createEmployee(new CreateEmployeeRequest("Jane Doe", 90000, 28, "Manager"));
+
+        assertEquals("2", employee.orElseThrow().getId());
+        mockServer.verify();
+    }
+
+    @Test
+    void testOnlyValidationFailuresOfBulkCreateAreRetriedOneByOne() {
+        assertTrue(EmployeeRepository.isRejectedAsWhole(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+        assertTrue(EmployeeRepository.isRejectedAsWhole(new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY)));
+        assertFalse(EmployeeRepository.isRejectedAsWhole(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+        assertFalse(EmployeeRepository.isRejectedAsWhole(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+        assertFalse(EmployeeRepository.isRejectedAsWhole(new ResourceAccessException("Connection refused")));
+    }
+
+    @Test
+    void testDeleteEmployeeByIdResolvesNameFromWarmSnapshot() throws Exception {
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.GET))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.DELETE))
+                .andExpect(jsonPath("$.name").value("John Doe"))
+                .andRespond(withSuccess("{\"data\":true}", MediaType.APPLICATION_JSON));
+
+        employeeRepository.fetchAllEmployees();
+
+        assertTrue(employeeRepository.deleteEmployeeById("1"));
+        assertEquals(List.of("Jane Doe"), employeeRepository.fetchTopTenHighestEarningEmployeeNames());
+        mockServer.verify();
+    }
+
+    @Test
+    void testDeleteEmployeesByIdsResolvesNamesInOnePass() throws Exception {
+        mockServer.expect(once(), requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.GET))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+        mockServer.expect(times(2), requestTo("http://localhost:8112/api/v1/employee"))
+                .andExpect(method(org.springframework.http.HttpMethod.DELETE))
+                .andRespond(withSuccess("{\"data\":true}", MediaType.APPLICATION_JSON));
+
+        Map<String, DeleteOutcome> outcomes = employeeRepository.deleteEmployeesByIds(List.of("1", "2", "3", "1"));
+
+        assertEquals(List.of("1", "2", "3"), List.copyOf(outcomes.keySet()));
+        assertEquals(DeleteOutcome.DELETED, outcomes.get("1"));
+        assertEquals(DeleteOutcome.DELETED, outcomes.get("2"));
+        assertEquals(DeleteOutcome.NOT_FOUND, outcomes.get("3"));
+        assertTrue(employeeRepository.fetchAllEmployees().isEmpty());
+        mockServer.verify();
+    }
+
+    @Test
+    void testPagedLoadFetchesRemainingPagesInParallelAndKeepsOrder() throws Exception {
+        UpstreamClientProperties properties = new UpstreamClientProperties();
+        properties.setPageSize(2);
+        RestTemplate unthrottled = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(unthrottled).ignoreExpectOrder(true).build();
+        List<EmployeeDto> all = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            all.add(new EmployeeDto(String.valueOf(i), "Employee " + i, 1000 * i, 30, "Engineer", i + "@example.com"));
+        }
+        for (int offset = 0; offset < all.size(); offset += 2) {
+            int to = Math.min(offset + 2, all.size());
+            EmployeeRepository.EmployeePage page = new EmployeeRepository.EmployeePage();
+            page.employees = all.subList(offset, to);
+            page.offset = offset;
+            page.total = all.size();
+            page.nextOffset = to < all.size() ? to : null;
+            EmployeeRepository.EmployeePageResponse response = new EmployeeRepository.EmployeePageResponse();
+            response.data = page;
+            server.expect(once(), requestTo("http://localhost:8112/api/v1/employee/page?offset=" + offset + "&limit=2"))
+                    .andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+        }
+        EmployeeRepository repository = new EmployeeRepository(
+                unthrottled, properties, Duration.ofSeconds(30), true, ForkJoinPool.commonPool(), Clock.systemUTC());
+
+        List<String> ids = repository.fetchAllEmployees().stream().map(EmployeeDto::getId).toList();
+
+        assertEquals(List.of("1", "2", "3", "4", "5"), ids);
+        assertEquals(5000, repository.fetchHighestSalary());
+        server.verify();
+    }
+
+    @Test
+    void testDisabledSnapshotStreamsEveryAggregateFromUpstream() throws Exception {
+        employeeRepository = new EmployeeRepository(
+                restTemplate,
+                new UpstreamClientProperties(),
+                Duration.ofSeconds(30),
+                false,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC());
+        mockServer.expect(times(3), requestTo("http://localhost:8112/api/v1/employee"))
+                .andRespond(withSuccess(listResponse(johnDoe(), janeDoe()), MediaType.APPLICATION_JSON));
+
+        assertEquals(90000, employeeRepository.fetchHighestSalary());
+        assertEquals(List.of("Jane Doe", "John Doe"), employeeRepository.fetchTopTenHighestEarningEmployeeNames());
+        List<EmployeeDto> matches = employeeRepository.fetchEmployeesByName("jane");
+
+        assertEquals(1, matches.size());
+        assertEquals("jane.doe@example.com", matches.get(0).getEmployeeEmail());
+        mockServer.verify();
+    }
+
+    @Test
+    void testConcurrentColdReadsShareOneUpstreamRequest() throws Exception {
+        String body = listResponse(johnDoe(), janeDoe());
+        assertSingleUpstreamRequest("http://localhost:8112/api/v1/employee", body, repository -> {
+            assertEquals(90000, repository.fetchHighestSalary());
+            assertEquals(List.of("Jane Doe", "John Doe"), repository.fetchTopTenHighestEarningEmployeeNames());
+            assertEquals(2, repository.fetchEmployeesByName("doe").size());
+        });
+    }
+
+    @Test
+    void testConcurrentLookupsOfSameIdShareOneUpstreamRequest() throws Exception {
+        EmployeeResponse response = new EmployeeResponse();
+        response.data = johnDoe();
+        String body = objectMapper.writeValueAsString(response);
+        assertSingleUpstreamRequest("http://localhost:8112/api/v1/employee/1", body, repository -> assertEquals(
+                "John Doe", repository.fetchEmployeeById("1").orElseThrow().getEmployeeName()));
+    }
+
+    /**
+     * Runs {@code call} from many threads at once while the single expected upstream request is held open until every
+     * thread is blocked, i.e. either performing that request or waiting on it.
+     */
+    private void assertSingleUpstreamRequest(String url, String body, Consumer<EmployeeRepository> call)
+            throws Exception {
+        int callers = 16;
+        RestTemplate unthrottled = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.createServer(unthrottled);
+        CountDownLatch release = new CountDownLatch(1);
+        server.expect(once(), requestTo(url)).andRespond(request -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return withSuccess(body, MediaType.APPLICATION_JSON).createResponse(request);
+        });
+        EmployeeRepository repository = new EmployeeRepository(unthrottled);
+
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    call.accept(repository);
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "callers never converged on the in-flight request");
+            Thread.sleep(1);
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "caller failed: " + failures);
+        server.verify();
+    }
+
+    private String listResponse(EmployeeDto... employees) throws Exception {
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.data = List.of(employees);
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @SafeVarargs
+    private String changesResponse(long version, boolean resyncRequired, Map<String, Object>... changes)
+            throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "data", Map.of("version", version, "resync_required", resyncRequired, "changes", List.of(changes))));
+    }
+
+    private static Map<String, Object> change(long version, String type, EmployeeDto employee) {
+        return Map.of("version", version, "type", type, "employee", employee);
+    }
+
+    private static EmployeeDto johnDoe() {
+        return new EmployeeDto("1", "John Doe", 70000, 30, "Engineer", "john.doe@example.com");
+    }
+
+    private static EmployeeDto janeDoe() {
+        return new EmployeeDto("2", "Jane Doe", 90000, 28, "Manager", "jane.doe@example.com");
+    }
 }
@@ -0,0 +1,123 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository.EmployeeChange;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeSnapshotTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void testIncrementalChangesMatchRebuild() {
+        Random random = new Random(42);
+        Map<String, EmployeeDto> expected = new LinkedHashMap<>();
+        int nextId = 0;
+        for (; nextId < 400; nextId++) {
+            expected.put(String.valueOf(nextId), employee(nextId, random.nextInt(50)));
+        }
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(new ArrayList<>(expected.values()), FETCHED_AT, "\"v0\"", 0);
+
+        // Mostly small batches, applied incrementally, and now and then one large enough to be rebuilt.
+        for (int version = 1; version <= 300; version++) {
+            int batchSize = version % 50 == 0 ? 150 : 1 + random.nextInt(8);
+            List<EmployeeChange> changes = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                int target = random.nextInt(3);
+                String id = target == 0 ? String.valueOf(nextId++) : String.valueOf(random.nextInt(nextId));
+                EmployeeDto employee = employee(Integer.parseInt(id), random.nextInt(50));
+                boolean created = target == 0 || random.nextBoolean();
+                changes.add(change(version, created, employee));
+                expected.remove(id);
+                if (created) {
+                    expected.put(id, employee);
+                }
+            }
+            snapshot = snapshot.withChanges(changes, version, FETCHED_AT);
+
+            EmployeeSnapshot rebuilt = EmployeeSnapshot.of(new ArrayList<>(expected.values()), FETCHED_AT);
+            assertEquals(rebuilt.getEmployees(), snapshot.getEmployees(), "version " + version);
+            assertEquals(rebuilt.getSalaries().highestSalary(), snapshot.getSalaries().highestSalary());
+            assertEquals(rebuilt.getSalaries().topEarnerNames(), snapshot.getSalaries().topEarnerNames());
+            assertEquals(version, snapshot.getVersion());
+            assertNull(snapshot.getEtag());
+        }
+        for (int id = 0; id < nextId; id++) {
+            assertEquals(expected.get(String.valueOf(id)), snapshot.findById(String.valueOf(id)).orElse(null));
+        }
+    }
+
+    @Test
+    void testLocalDeleteKeepsVersionUntilUpstreamConfirmsIt() {
+        EmployeeDto john = employee("1", "John Doe");
+        EmployeeDto jane = employee("2", "Jane Doe");
+        EmployeeDto otherJohn = employee("3", "JOHN DOE");
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(john, jane), FETCHED_AT, null, 5);
+
+        EmployeeSnapshot deleted = snapshot.withoutEmployee("1", 5, true);
+        assertEquals(List.of(jane), deleted.getEmployees());
+        assertEquals(5, deleted.getVersion());
+
+        EmployeeSnapshot confirmed = deleted.withChanges(List.of(change(6, false, john)), 6, FETCHED_AT);
+        assertEquals(List.of(jane), confirmed.getEmployees());
+        // Once confirmed, another same-named delete has nothing to put back.
+        EmployeeSnapshot later = confirmed.withChanges(List.of(change(7, false, otherJohn)), 7, FETCHED_AT);
+        assertEquals(List.of(jane), later.getEmployees());
+    }
+
+    @Test
+    void testLocalDeleteIsUndoneWhenUpstreamDeletedSameNamedEmployee() {
+        EmployeeDto firstJohn = employee("1", "John Doe");
+        EmployeeDto jane = employee("2", "Jane Doe");
+        EmployeeDto john = employee("3", "john doe");
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(firstJohn, jane, john), FETCHED_AT, null, 5);
+
+        // Asked to delete "john doe", the upstream removed the first employee by that name.
+        EmployeeSnapshot deleted = snapshot.withoutEmployee("3", 5, true);
+        EmployeeSnapshot reconciled = deleted.withChanges(List.of(change(6, false, firstJohn)), 6, FETCHED_AT);
+
+        assertEquals(List.of(jane, john), reconciled.getEmployees());
+        assertEquals(john, reconciled.findById("3").orElseThrow());
+        assertEquals(6, reconciled.getVersion());
+    }
+
+    @Test
+    void testLocalDeleteDropsVersionWhenChangesMayAlreadyBeApplied() {
+        EmployeeDto john = employee("1", "John Doe");
+        EmployeeDto jane = employee("2", "Jane Doe");
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(john, jane), FETCHED_AT, null, 5);
+
+        assertEquals(EmployeeSnapshot.NO_VERSION, snapshot.withoutEmployee("1", 4, true).getVersion());
+        // Gone upstream already, so no change is coming and nothing can have been deleted in its place.
+        EmployeeSnapshot stale = snapshot.withoutEmployee("1", 4, false);
+        assertEquals(5, stale.getVersion());
+        EmployeeDto otherJohn = employee("3", "John Doe");
+        assertEquals(
+                List.of(jane), stale.withChanges(List.of(change(6, false, otherJohn)), 6, FETCHED_AT).getEmployees());
+    }
+
+    private static EmployeeChange change(long version, boolean created, EmployeeDto employee) {
+        EmployeeChange change = new EmployeeChange();
+        change.version = version;
+        change.type = created ? EmployeeChange.Type.CREATED : EmployeeChange.Type.DELETED;
+        change.employee = employee;
+        return change;
+    }
+
+    private static EmployeeDto employee(String id, String name) {
+        return new EmployeeDto(id, name, 50_000, 30, "Engineer", "employee" + id + "@example.com");
+    }
+
+    private static EmployeeDto employee(int id, int salary) {
+        return new EmployeeDto(
+                String.valueOf(id), "Employee " + id, salary, 30, "Engineer", "employee" + id + "@example.com");
+    }
+}
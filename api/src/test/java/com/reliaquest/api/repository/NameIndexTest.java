@@ -0,0 +1,78 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final List<EmployeeDto> employees = List.of(
+            employee("1", "John Doe"),
+            employee("2", "Jane Doe"),
+            employee("3", "Jim Beam"),
+            employee("4", "DOEDOE Johnson"),
+            employee("5", null));
+
+    private final NameIndex nameIndex = NameIndex.of(employees);
+
+    @Test
+    void testSearchIsCaseInsensitiveAndKeepsListOrder() {
+        assertEquals(List.of("1", "2", "4"), ids(nameIndex.search("dOe")));
+        assertEquals(List.of("1", "4"), ids(nameIndex.search("JOHN")));
+    }
+
+    @Test
+    void testShortSearchScansFoldedNames() {
+        assertEquals(List.of("3"), ids(nameIndex.search("b")));
+        assertEquals(List.of("1", "2", "4"), ids(nameIndex.search("oe")));
+    }
+
+    @Test
+    void testSharedTrigramsAreVerifiedAsSubstring() {
+        // "Abc Xbcd" contains both trigrams of "abcd" without containing "abcd" itself.
+        NameIndex index = NameIndex.of(List.of(employee("1", "Abc Xbcd"), employee("2", "Abcd")));
+
+        assertEquals(List.of("2"), ids(index.search("ABCD")));
+        assertTrue(nameIndex.search("xyz").isEmpty());
+    }
+
+    @Test
+    void testMatchesContainsSemantics() {
+        Random random = new Random(7);
+        String alphabet = "abcAB ";
+        List<EmployeeDto> generated = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            generated.add(employee(String.valueOf(i), randomString(random, alphabet, random.nextInt(10))));
+        }
+        NameIndex index = NameIndex.of(generated);
+
+        for (int i = 0; i < 2000; i++) {
+            String search = randomString(random, alphabet, 1 + random.nextInt(5));
+            List<EmployeeDto> expected = generated.stream()
+                    .filter(emp -> emp.getEmployeeName().toLowerCase().contains(search.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(search), search);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> ids(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getId).collect(Collectors.toList());
+    }
+
+    private static EmployeeDto employee(String id, String name) {
+        return new EmployeeDto(id, name, 50000, 30, "Engineer", id + "@example.com");
+    }
+}
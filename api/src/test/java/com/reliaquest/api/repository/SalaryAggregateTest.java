@@ -0,0 +1,83 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class SalaryAggregateTest {
+
+    @Test
+    void testEmptyAggregate() {
+        SalaryAggregate aggregate = SalaryAggregate.of(List.of());
+        assertEquals(0, aggregate.highestSalary());
+        assertTrue(aggregate.topEarnerNames().isEmpty());
+    }
+
+    @Test
+    void testTiesKeepListOrder() {
+        List<EmployeeDto> employees = List.of(
+                employee(1, 50000), employee(2, 90000), employee(3, 50000), employee(4, 90000));
+
+        SalaryAggregate aggregate = SalaryAggregate.of(employees);
+
+        assertEquals(90000, aggregate.highestSalary());
+        assertEquals(List.of("Employee 2", "Employee 4", "Employee 1", "Employee 3"), aggregate.topEarnerNames());
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFullSort() {
+        Random random = new Random(42);
+        List<EmployeeDto> employees = new ArrayList<>();
+        int nextId = 0;
+        for (; nextId < 200; nextId++) {
+            employees.add(employee(nextId, random.nextInt(50)));
+        }
+        SalaryAggregate aggregate = SalaryAggregate.of(employees);
+
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextBoolean() || employees.isEmpty()) {
+                EmployeeDto added = employee(nextId++, random.nextInt(50));
+                employees.add(added);
+                aggregate = aggregate.withEmployee(added);
+            } else if (random.nextInt(4) > 0) {
+                EmployeeDto removed = employees.remove(random.nextInt(employees.size()));
+                aggregate = aggregate.withoutEmployee(removed, List.copyOf(employees));
+            } else {
+                List<EmployeeDto> removed = new ArrayList<>();
+                for (int i = random.nextInt(15); i >= 0 && !employees.isEmpty(); i--) {
+                    removed.add(employees.remove(random.nextInt(employees.size())));
+                }
+                aggregate = aggregate.withoutEmployees(removed, List.copyOf(employees));
+            }
+
+            assertEquals(expectedHighestSalary(employees), aggregate.highestSalary());
+            assertEquals(expectedTopTen(employees), aggregate.topEarnerNames());
+        }
+    }
+
+    private static int expectedHighestSalary(List<EmployeeDto> employees) {
+        return employees.stream()
+                .mapToInt(EmployeeDto::getEmployeeSalary)
+                .max()
+                .orElse(0);
+    }
+
+    private static List<String> expectedTopTen(List<EmployeeDto> employees) {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(EmployeeDto::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(EmployeeDto::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+
+    private static EmployeeDto employee(int id, int salary) {
+        return new EmployeeDto(
+                String.valueOf(id), "Employee " + id, salary, 30, "Engineer", "employee" + id + "@example.com");
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDto;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class StreamingEmployeeAggregatesTest {
+
+    @Test
+    void testReadsFieldsInAnyOrderAndSkipsUnknownOnes() throws Exception {
+        String body = "{\"data\":[{\"employee_salary\":\"500\",\"extra\":{\"nested\":[1,{\"id\":\"x\"}]},"
+                + "\"employee_name\":\"Jane Doe\",\"id\":\"2\",\"employee_age\":28,"
+                + "\"employee_title\":\"Manager\",\"employee_email\":\"jane@example.com\"},"
+                + "null,{\"id\":\"3\",\"employee_name\":null,\"employee_salary\":700.9}],\"status\":\"ok\"}";
+
+        assertEquals(700, StreamingEmployeeAggregates.highestSalary(stream(body)));
+        assertEquals(Arrays.asList(null, "Jane Doe"), StreamingEmployeeAggregates.topEarnerNames(stream(body), 10));
+
+        List<EmployeeDto> matches = StreamingEmployeeAggregates.searchByName(stream(body), "DOE");
+        assertEquals(1, matches.size());
+        EmployeeDto jane = matches.get(0);
+        assertEquals("2", jane.getId());
+        assertEquals("Jane Doe", jane.getEmployeeName());
+        assertEquals(500, jane.getEmployeeSalary());
+        assertEquals(28, jane.getEmployeeAge());
+        assertEquals("Manager", jane.getEmployeeTitle());
+        assertEquals("jane@example.com", jane.getEmployeeEmail());
+    }
+
+    @Test
+    void testEmptyOrMissingListYieldsEmptyResults() throws Exception {
+        assertEquals(0, StreamingEmployeeAggregates.highestSalary(stream("{\"data\":[]}")));
+        assertEquals(0, StreamingEmployeeAggregates.highestSalary(stream("")));
+        assertTrue(StreamingEmployeeAggregates.topEarnerNames(stream("{\"data\":null}"), 10).isEmpty());
+    }
+
+    @Test
+    void testMatchesDeserializedAggregates() throws Exception {
+        Random random = new Random(11);
+        String alphabet = "abcAB \u0130";
+        for (int round = 0; round < 200; round++) {
+            List<EmployeeDto> employees = new ArrayList<>();
+            int size = random.nextInt(60);
+            for (int i = 0; i < size; i++) {
+                String name = randomString(random, alphabet, random.nextInt(8));
+                employees.add(new EmployeeDto(String.valueOf(i), name, 100 * random.nextInt(10), 30, "T", "e"));
+            }
+            String body = listBody(employees);
+            SalaryAggregate salaries = SalaryAggregate.of(employees);
+            NameIndex nameIndex = NameIndex.of(employees);
+
+            assertEquals(salaries.highestSalary(), StreamingEmployeeAggregates.highestSalary(stream(body)));
+            assertEquals(
+                    salaries.topEarnerNames(),
+                    StreamingEmployeeAggregates.topEarnerNames(stream(body), SalaryAggregate.TOP_K));
+            for (int i = 0; i < 10; i++) {
+                String search = randomString(random, alphabet, 1 + random.nextInt(3));
+                assertEquals(
+                        ids(nameIndex.search(search)),
+                        ids(StreamingEmployeeAggregates.searchByName(stream(body), search)),
+                        search);
+            }
+        }
+    }
+
+    private static String listBody(List<EmployeeDto> employees) {
+        StringBuilder body = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeDto employee = employees.get(i);
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"id\":\"")
+                    .append(employee.getId())
+                    .append("\",\"employee_name\":\"")
+                    .append(employee.getEmployeeName())
+                    .append("\",\"employee_salary\":")
+                    .append(employee.getEmployeeSalary())
+                    .append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> ids(List<EmployeeDto> employees) {
+        return employees.stream().map(EmployeeDto::getId).toList();
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
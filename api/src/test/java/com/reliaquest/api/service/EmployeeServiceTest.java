@@ -1,6 +1,7 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.CreateEmployeeRequest;
+import com.reliaquest.api.dto.DeleteOutcome;
 import com.reliaquest.api.dto.EmployeeDto;
 import com.reliaquest.api.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,4 +109,12 @@ public class EmployeeServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    void deleteEmployeesByIds_shouldReturnOutcomePerId() {
+        Map<String, DeleteOutcome> outcomes = Map.of("1", DeleteOutcome.DELETED, "2", DeleteOutcome.NOT_FOUND);
+        when(employeeRepository.deleteEmployeesByIds(List.of("1", "2"))).thenReturn(outcomes);
+        Map<String, DeleteOutcome> result = employeeService.deleteEmployeesByIds(List.of("1", "2"));
+        assertEquals(outcomes, result);
+    }
+
 }
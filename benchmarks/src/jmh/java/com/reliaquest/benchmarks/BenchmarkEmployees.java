@@ -0,0 +1,44 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic employee data for the benchmarks, so that runs on different machines measure the same lists. Names are
+ * drawn from small pools, which gives name searches a realistic number of hits at every size.
+ */
+final class BenchmarkEmployees {
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Brian", "Carla", "Daniel", "Elena", "Felix", "Grace", "Hannah", "Ivan", "Julia", "Kevin", "Laura",
+        "Marco", "Nadia", "Oscar", "Priya", "Quentin", "Rosa", "Samuel", "Tara", "Umar", "Vera", "Walter", "Yusuf"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Brooks", "Chen", "Dawson", "Evans", "Fischer", "Garcia", "Hughes", "Ivanova", "Johnson",
+        "Kowalski", "Lopez", "Martin", "Nguyen", "Okafor", "Patel", "Quinn", "Rossi", "Schmidt", "Tanaka"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Manager", "Director", "Analyst", "Designer", "Consultant", "Architect"
+    };
+
+    private BenchmarkEmployees() {}
+
+    static List<MockEmployee> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<MockEmployee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new MockEmployee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    first + " " + last,
+                    30_000 + random.nextInt(470_000),
+                    16 + random.nextInt(55),
+                    TITLES[random.nextInt(TITLES.length)],
+                    (first.charAt(0) + last + i).toLowerCase() + "@company.com"));
+        }
+        return employees;
+    }
+}
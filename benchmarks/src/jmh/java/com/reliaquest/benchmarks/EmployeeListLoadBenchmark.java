@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of loading the full employee list in one response ({@code pageSize} 0) against loading it page by page, with the
+ * snapshot disabled so that every call loads and parses the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeListLoadBenchmark {
+
+    @Param({"10000", "100000"})
+    int employees;
+
+    @Param({"0", "1000", "10000"})
+    int pageSize;
+
+    private ExecutorService executor;
+    private EmployeeRepository repository;
+
+    @Setup
+    public void setUp() {
+        UpstreamClientProperties properties = new UpstreamClientProperties();
+        properties.setPageSize(pageSize);
+        executor = Executors.newFixedThreadPool(properties.getPageParallelism());
+        StubUpstream upstream = new StubUpstream(BenchmarkEmployees.generate(employees, 42), pageSize);
+        repository = new EmployeeRepository(upstream.restTemplate(), properties, Duration.ofDays(1), false, executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> loadAll() {
+        return repository.fetchAllEmployees();
+    }
+}
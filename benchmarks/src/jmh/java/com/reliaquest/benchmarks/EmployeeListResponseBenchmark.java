@@ -0,0 +1,73 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeListCache;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * The server's work per gzipped list request while the data is unchanged: encoding and compressing the whole list, as
+ * every request did before {@link MockEmployeeListCache}, against copying out the bytes the cache keeps for the
+ * current data version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeListResponseBenchmark {
+
+    private static final String[] ACCEPT_JSON = {"application/json"};
+
+    @Param({"100", "10000"})
+    int listSize;
+
+    private MockEmployeeService service;
+    private ObjectMapper objectMapper;
+    private MockEmployeeListCache cache;
+    private final ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+    @Setup
+    public void setUp() {
+        service = new MockEmployeeService(
+                new Faker(new Random(42)), new InMemoryMockEmployeeStore(BenchmarkEmployees.generate(listSize, 42)));
+        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(true);
+        objectMapper = jsonConverter.getObjectMapper();
+        cache = new MockEmployeeListCache(
+                service, jsonConverter, new MappingJackson2SmileHttpMessageConverter(), serverProperties);
+    }
+
+    @Benchmark
+    public int encodeAndGzip() throws IOException {
+        response.reset();
+        try (GZIPOutputStream out = new GZIPOutputStream(response)) {
+            objectMapper.writeValue(out, Response.handledWith(service.getMockEmployees()));
+        }
+        return response.size();
+    }
+
+    @Benchmark
+    public int cached() {
+        response.reset();
+        response.writeBytes(cache.get(ACCEPT_JSON).gzipped());
+        return response.size();
+    }
+}
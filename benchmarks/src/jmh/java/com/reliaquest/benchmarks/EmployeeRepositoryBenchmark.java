@@ -0,0 +1,88 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link EmployeeRepository}'s reads against a warm snapshot: the name index, the salary aggregate and, as baselines,
+ * the linear scan and full sort those replaced, run over the same snapshot list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeRepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int employees;
+
+    private EmployeeRepository repository;
+    private List<EmployeeDto> snapshot;
+
+    @Setup
+    public void setUp() {
+        StubUpstream upstream = new StubUpstream(BenchmarkEmployees.generate(employees, 42), 0);
+        // A refresh interval longer than any run keeps every read on the snapshot loaded here.
+        repository = new EmployeeRepository(
+                upstream.restTemplate(), new UpstreamClientProperties(), Duration.ofDays(1), true, Runnable::run);
+        snapshot = repository.fetchAllEmployees();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> searchByName(Search search) {
+        return repository.fetchEmployeesByName(search.searchString);
+    }
+
+    @Benchmark
+    public int highestSalary() {
+        return repository.fetchHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return repository.fetchTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> searchByNameLinearScan(Search search) {
+        String folded = search.searchString.toLowerCase();
+        List<EmployeeDto> matches = new ArrayList<>();
+        for (EmployeeDto employee : snapshot) {
+            if (employee.getEmployeeName().toLowerCase().contains(folded)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<String> topTenNamesBySort() {
+        return snapshot.stream()
+                .sorted(Comparator.comparingInt(EmployeeDto::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(EmployeeDto::getEmployeeName)
+                .toList();
+    }
+
+    /**
+     * Searches for a common first-name fragment, a surname and a fragment no name contains.
+     */
+    @State(Scope.Benchmark)
+    public static class Search {
+        @Param({"ann", "rossi", "zz"})
+        String searchString;
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.seed.MockEmployeeSeeder;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generating the server's startup data with {@link MockEmployeeSeeder}, which runs its chunks on the common fork-join
+ * pool, so the result depends on the cores available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MockEmployeeSeederBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int employees;
+
+    @Benchmark
+    public List<MockEmployee> generate() {
+        return new MockEmployeeSeeder(42, Locale.ENGLISH).generate(employees);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.store.ColumnarMockEmployeeStore;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encoding {@link MockEmployee} responses, whose property names come from its {@code PrefixNamingStrategy}, as the
+ * server's single-employee and list endpoints do. Lists come from a store's snapshot, so for the columnar engine the
+ * cost of materializing each employee is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Response<MockEmployee> single;
+
+    @Setup
+    public void setUp() {
+        single = Response.handledWith(BenchmarkEmployees.generate(1, 42).get(0));
+    }
+
+    @Benchmark
+    public byte[] writeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] writeEmployeeList(EmployeeList employees) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees.response);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmployeeList {
+        @Param({"100", "10000"})
+        int listSize;
+
+        @Param({"heap", "columnar"})
+        String engine;
+
+        private Response<List<MockEmployee>> response;
+
+        @Setup
+        public void setUp() {
+            List<MockEmployee> employees = BenchmarkEmployees.generate(listSize, 42);
+            MockEmployeeStore store = engine.equals("columnar")
+                    ? new ColumnarMockEmployeeStore(employees)
+                    : new InMemoryMockEmployeeStore(employees);
+            response = Response.handledWith(store.snapshot());
+        }
+    }
+}
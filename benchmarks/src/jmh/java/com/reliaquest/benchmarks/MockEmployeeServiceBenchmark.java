@@ -0,0 +1,112 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.ColumnarMockEmployeeStore;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link MockEmployeeService} lookups, creates and deletes over a store of {@code storeSize} employees, either the
+ * {@link InMemoryMockEmployeeStore} or the {@link ColumnarMockEmployeeStore}.
+ *
+ * <p>The store is rebuilt before every iteration, so {@code create} measures a store that grows only by that
+ * iteration's creates. {@code delete} puts each removed employee straight back into the store to keep its size fixed;
+ * that re-add is part of the measured time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int storeSize;
+
+    @Param({"heap", "columnar"})
+    String engine;
+
+    private List<MockEmployee> seed;
+    private MockEmployee[] shuffled;
+    private DeleteMockEmployeeInput[] deletes;
+    private CreateMockEmployeeInput createInput;
+    private Faker faker;
+
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        // Unique names, so each delete removes exactly the employee it is paired with.
+        seed = new ArrayList<>(storeSize);
+        List<MockEmployee> generated = BenchmarkEmployees.generate(storeSize, 42);
+        for (int i = 0; i < generated.size(); i++) {
+            MockEmployee employee = generated.get(i);
+            seed.add(employee.toBuilder().name(employee.getName() + " " + i).build());
+        }
+        List<MockEmployee> order = new ArrayList<>(seed);
+        Collections.shuffle(order, new Random(7));
+        shuffled = order.toArray(MockEmployee[]::new);
+        deletes = new DeleteMockEmployeeInput[shuffled.length];
+        for (int i = 0; i < shuffled.length; i++) {
+            deletes[i] = new DeleteMockEmployeeInput();
+            deletes[i].setName(shuffled[i].getName());
+        }
+        createInput = new CreateMockEmployeeInput();
+        createInput.setName("Benchmark Employee");
+        createInput.setSalary(100_000);
+        createInput.setAge(40);
+        createInput.setTitle("Engineer");
+        faker = new Faker(new Random(42));
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpStore() {
+        store = engine.equals("columnar") ? new ColumnarMockEmployeeStore(seed) : new InMemoryMockEmployeeStore(seed);
+        service = new MockEmployeeService(faker, store);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(next().getId());
+    }
+
+    @Benchmark
+    public MockEmployee create() {
+        return service.create(createInput);
+    }
+
+    @Benchmark
+    public boolean delete() {
+        int index = cursor;
+        MockEmployee employee = next();
+        boolean deleted = service.delete(deletes[index]);
+        store.add(employee);
+        return deleted;
+    }
+
+    private MockEmployee next() {
+        MockEmployee employee = shuffled[cursor];
+        cursor = cursor + 1 == shuffled.length ? 0 : cursor + 1;
+        return employee;
+    }
+}
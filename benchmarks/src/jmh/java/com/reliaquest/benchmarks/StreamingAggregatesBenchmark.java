@@ -0,0 +1,78 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.config.UpstreamClientProperties;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.api.repository.EmployeeRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The aggregate reads with the snapshot disabled, answered while streaming the list response, against deserializing the
+ * whole list first and computing them from it. Compare {@code gc.alloc.rate.norm} for the bytes each call allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StreamingAggregatesBenchmark {
+
+    @Param({"10000", "100000"})
+    int employees;
+
+    private EmployeeRepository repository;
+
+    @Setup
+    public void setUp() {
+        StubUpstream upstream = new StubUpstream(BenchmarkEmployees.generate(employees, 42), 0);
+        repository = new EmployeeRepository(
+                upstream.restTemplate(), new UpstreamClientProperties(), Duration.ofDays(1), false, Runnable::run);
+    }
+
+    @Benchmark
+    public int highestSalaryStreamed() {
+        return repository.fetchHighestSalary();
+    }
+
+    @Benchmark
+    public int highestSalaryFromList() {
+        return repository.fetchAllEmployees().stream()
+                .mapToInt(EmployeeDto::getEmployeeSalary)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public List<String> topTenNamesStreamed() {
+        return repository.fetchTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<String> topTenNamesFromList() {
+        return repository.fetchAllEmployees().stream()
+                .sorted(Comparator.comparingInt(EmployeeDto::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(EmployeeDto::getEmployeeName)
+                .toList();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> searchByNameStreamed() {
+        return repository.fetchEmployeesByName("ann");
+    }
+
+    @Benchmark
+    public List<EmployeeDto> searchByNameFromList() {
+        return repository.fetchAllEmployees().stream()
+                .filter(employee -> employee.getEmployeeName().toLowerCase().contains("ann"))
+                .toList();
+    }
+}
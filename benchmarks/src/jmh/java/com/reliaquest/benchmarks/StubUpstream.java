@@ -0,0 +1,108 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.datafaker.Faker;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Serves the mock server's list and page responses from memory, so that the api benchmarks measure the client side
+ * (response parsing, paging and the snapshot) rather than the network. Bodies are encoded once, by the server's own
+ * models and {@link MockEmployeeService}, when the stub is built.
+ */
+final class StubUpstream implements ClientHttpRequestInterceptor {
+    static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private final Map<String, byte[]> bodies = new HashMap<>();
+
+    /**
+     * @param pageSize page size the client is configured with, or 0 when it loads the list in one response
+     */
+    StubUpstream(List<MockEmployee> employees, int pageSize) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        MockEmployeeService service = new MockEmployeeService(new Faker(), new InMemoryMockEmployeeStore(employees));
+        bodies.put(BASE_URL, encode(objectMapper, Response.handledWith(service.getMockEmployees())));
+        if (pageSize > 0) {
+            int step = Math.min(pageSize, MockEmployeeService.MAX_PAGE_SIZE);
+            for (int offset = 0; offset == 0 || offset < employees.size(); offset += step) {
+                String url = BASE_URL + "/page?offset=" + offset + "&limit=" + (offset == 0 ? pageSize : step);
+                bodies.put(url, encode(objectMapper, Response.handledWith(service.getMockEmployeePage(offset, step))));
+            }
+        }
+    }
+
+    RestTemplate restTemplate() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(this));
+        return restTemplate;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) {
+        byte[] response = bodies.get(request.getURI().toString());
+        if (response == null) {
+            throw new IllegalStateException("No stubbed response for " + request.getMethod() + " " + request.getURI());
+        }
+        return new StubResponse(response);
+    }
+
+    private static byte[] encode(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class StubResponse implements ClientHttpResponse {
+        private final byte[] body;
+
+        private StubResponse(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
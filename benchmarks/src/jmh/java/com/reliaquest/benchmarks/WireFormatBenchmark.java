@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.dto.EmployeeDto;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The list response in JSON against Smile: encoding {@link MockEmployee} lists as the server does, and decoding them
+ * into {@link EmployeeDto} as the api does. Payload sizes per format, plain and gzipped, are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile"})
+    String format;
+
+    @Param({"10000"})
+    int listSize;
+
+    private ObjectMapper objectMapper;
+    private Response<List<MockEmployee>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = (format.equals("smile") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        response = Response.handledWith(BenchmarkEmployees.generate(listSize, 42));
+        encoded = objectMapper.writeValueAsBytes(response);
+        System.out.printf(
+                "%n%s: %d bytes for %d employees, %d bytes gzipped%n",
+                format,
+                encoded.length,
+                listSize,
+                gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> decode() throws IOException {
+        return objectMapper.readValue(encoded, EmployeeListBody.class).data;
+    }
+
+    public static class EmployeeListBody {
+        public List<EmployeeDto> data;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
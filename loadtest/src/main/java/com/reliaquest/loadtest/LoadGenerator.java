@@ -0,0 +1,144 @@
+package com.reliaquest.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sends requests at a fixed rate (open loop): request {@code i} is due at {@code start + i / rate} and is sent then
+ * regardless of how many earlier requests are still outstanding, so a slow server builds up concurrency exactly as it
+ * would under real traffic instead of slowing the load down.
+ */
+final class LoadGenerator {
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadTestOptions options;
+    private final UpstreamStatusFilter upstream;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final RandomGenerator random = new SplittableRandom(42);
+
+    LoadGenerator(HttpClient client, Workload workload, LoadTestOptions options, UpstreamStatusFilter upstream) {
+        this.client = client;
+        this.workload = workload;
+        this.options = options;
+        this.upstream = upstream;
+    }
+
+    LoadReport run() {
+        dispatch(options.getWarmup(), null);
+        awaitOutstanding();
+
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        options.getMix().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+        upstream.reset();
+        peakInFlight.set(0);
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(
+                        ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), Math::max),
+                0,
+                50,
+                TimeUnit.MILLISECONDS);
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long started = System.nanoTime();
+        try {
+            dispatch(options.getDuration(), stats);
+            int unfinished = awaitOutstanding();
+            return LoadReport.builder()
+                    .options(options)
+                    .operations(stats)
+                    .wallTime(Duration.ofNanos(System.nanoTime() - started))
+                    .peakInFlight(peakInFlight.get())
+                    .unfinished(unfinished)
+                    .upstreamRequests(upstream.requests())
+                    .upstreamThrottled(upstream.throttled())
+                    .upstreamErrors(upstream.errors())
+                    .peakHeapBytes(peakHeap.get())
+                    .gcCount(gcCount() - gcCountBefore)
+                    .gcTime(Duration.ofMillis(gcTimeMillis() - gcTimeBefore))
+                    .build();
+        } finally {
+            heapSampler.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends requests for {@code length}, recording them into {@code stats} unless it is {@code null} (warm-up).
+     */
+    private void dispatch(Duration length, Map<Operation, OperationStats> stats) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        long requests = (long) (length.toNanos() / intervalNanos);
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = start + (long) (i * intervalNanos);
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = workload.next(random);
+            OperationStats operationStats = stats != null ? stats.get(operation) : null;
+            int outstanding = inFlight.incrementAndGet();
+            if (outstanding > options.getMaxInFlight()) {
+                inFlight.decrementAndGet();
+                if (operationStats != null) {
+                    operationStats.dropped();
+                }
+                continue;
+            }
+            peakInFlight.accumulateAndGet(outstanding, Math::max);
+            HttpRequest request = workload.request(operation, random);
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                try {
+                    if (operationStats != null) {
+                        operationStats.record(System.nanoTime() - due, response != null ? response.statusCode() : -1);
+                    }
+                    if (response != null) {
+                        workload.onResponse(operation, response);
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Waits for outstanding requests to complete, at most the request timeout and a little more.
+     *
+     * @return the number of requests still outstanding
+     */
+    private int awaitOutstanding() {
+        long deadline = System.nanoTime() + options.getTimeout().plusSeconds(1).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return inFlight.get();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(gc -> Math.max(0, gc.getCollectionCount()))
+                .sum();
+    }
+
+    private static long gcTimeMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(gc -> Math.max(0, gc.getCollectionTime()))
+                .sum();
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of the measured part of a run. Heap and GC figures cover the whole JVM, which hosts both applications as
+ * well as the load generator.
+ */
+@Value
+@Builder
+class LoadReport {
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    LoadTestOptions options;
+    Map<Operation, OperationStats> operations;
+    Duration wallTime;
+    int peakInFlight;
+    int unfinished;
+    long upstreamRequests;
+    long upstreamThrottled;
+    long upstreamErrors;
+    long peakHeapBytes;
+    long gcCount;
+    Duration gcTime;
+
+    void print(PrintStream out) {
+        out.printf(
+                "%-14s %8s %8s %6s %6s %6s %6s %7s %8s %9s %9s %9s %9s%n",
+                "operation",
+                "count",
+                "2xx",
+                "404",
+                "429",
+                "4xx",
+                "5xx",
+                "failed",
+                "dropped",
+                "p50 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms");
+        Histogram total = new Histogram(3);
+        operations.forEach((operation, stats) -> {
+            total.add(stats.latencies());
+            printRow(out, operation.key(), stats);
+        });
+        long count = total.getTotalCount();
+        out.printf(
+                "%-14s %8d %53s %9.2f %9.2f %9.2f %9.2f%n",
+                "all",
+                count,
+                "",
+                millis(total, 50),
+                millis(total, 99),
+                millis(total, 99.9),
+                total.getMaxValue() / MICROS_PER_MILLI);
+        out.println();
+        out.printf(
+                "target rate %.1f/s, achieved %.1f/s over %d ms; peak in flight %d, unfinished %d%n",
+                options.getRate(),
+                count / (wallTime.toNanos() / 1e9),
+                wallTime.toMillis(),
+                peakInFlight,
+                unfinished);
+        out.printf(
+                "upstream: %d requests, %d throttled (429), %d other errors%n",
+                upstreamRequests, upstreamThrottled, upstreamErrors);
+        out.printf(
+                "jvm: peak heap %d MiB, %d collections taking %d ms%n",
+                peakHeapBytes >> 20,
+                gcCount,
+                gcTime.toMillis());
+    }
+
+    private static void printRow(PrintStream out, String name, OperationStats stats) {
+        Histogram latencies = stats.latencies();
+        out.printf(
+                "%-14s %8d %8d %6d %6d %6d %6d %7d %8d %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                latencies.getTotalCount(),
+                stats.succeeded(),
+                stats.notFound(),
+                stats.throttled(),
+                stats.clientErrors(),
+                stats.serverErrors(),
+                stats.failed(),
+                stats.dropped(),
+                millis(latencies, 50),
+                millis(latencies, 99),
+                millis(latencies, 99.9),
+                latencies.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    /**
+     * Writes each operation's full percentile distribution, in milliseconds, as {@code <operation>.hgrm}, the format
+     * the HdrHistogram plotter reads.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+            Path file = directory.resolve(entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
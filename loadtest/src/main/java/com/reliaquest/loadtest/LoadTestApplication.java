@@ -0,0 +1,119 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the mock server and the api in this JVM on free local ports, drives the api at a fixed rate with a mix of the
+ * seven employee operations, and prints per-operation latency percentiles and outcome counts.
+ *
+ * <p>Run with {@code ./gradlew :loadtest:bootRun --args='--rate=500 --duration=60s'}; see {@link LoadTestOptions}.
+ */
+public final class LoadTestApplication {
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+    private static final int SEED_ATTEMPTS = 5;
+
+    private LoadTestApplication() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext server = startServer(options);
+                ConfigurableApplicationContext api = startApi(options, port(server))) {
+            String apiUrl = "http://localhost:" + port(api);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(options.getTimeout())
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            System.out.printf(
+                    "Load test: %.1f requests/s for %s after a %s warm-up, mix %s, properties %s%n",
+                    options.getRate(),
+                    options.getDuration(),
+                    options.getWarmup(),
+                    options.getMix(),
+                    options.getApplicationProperties());
+            Workload workload = new Workload(
+                    apiUrl + EMPLOYEE_PATH, options.getMix(), seedEmployees(client, apiUrl), options.getTimeout());
+            LoadReport report = new LoadGenerator(client, workload, options, server.getBean(UpstreamStatusFilter.class))
+                    .run();
+
+            report.print(System.out);
+            printPoolStats(client, apiUrl);
+            if (options.getHistogramDir() != null) {
+                report.writeHistograms(options.getHistogramDir());
+                System.out.println("Latency distributions written to " + options.getHistogramDir().toAbsolutePath());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadTestOptions options) {
+        return ServerApplication.application()
+                .sources(UpstreamStatusFilter.class)
+                .run(arguments(options, Map.of()));
+    }
+
+    private static ConfigurableApplicationContext startApi(LoadTestOptions options, int serverPort) {
+        String baseUrl = "http://localhost:" + serverPort + EMPLOYEE_PATH;
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .run(arguments(options, Map.of("employee.client.base-url", baseUrl)));
+    }
+
+    /**
+     * Command line for one application: free port, quiet logs, then the properties given to the load test, which win.
+     */
+    private static String[] arguments(LoadTestOptions options, Map<String, String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.com.reliaquest", "WARN");
+        properties.putAll(overrides);
+        properties.putAll(options.getApplicationProperties());
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * The employees reads will target. The very first upstream calls are never throttled, but retry in case a
+     * configured delay or limiter gets in the way.
+     */
+    private static JsonNode seedEmployees(HttpClient client, String apiUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + EMPLOYEE_PATH)).GET().build();
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                return new ObjectMapper().readTree(response.body());
+            }
+            if (attempt == SEED_ATTEMPTS) {
+                throw new IllegalStateException("Could not list employees to seed the load test, last status "
+                        + response.statusCode() + ": " + response.body());
+            }
+            Thread.sleep(1000L * attempt);
+        }
+    }
+
+    private static void printPoolStats(HttpClient client, String apiUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/actuator/upstreampool")).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            System.out.println("api upstream pool: " + response.body());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+/**
+ * Command line options of the load test. Options it does not know are passed on to both applications, so any of
+ * their properties can be set for a run, e.g. {@code --employee.client.page-size=1000} or
+ * {@code --mock.response-delay=200ms}.
+ */
+@Value
+@Builder
+class LoadTestOptions {
+    private static final Set<String> OPTIONS =
+            Set.of("rate", "duration", "warmup", "mix", "max-in-flight", "timeout", "histogram-dir");
+
+    /*
+     * Requests started per second, whether or not earlier ones have completed (open loop).
+     */
+    double rate;
+
+    Duration duration;
+    Duration warmup;
+    Map<Operation, Integer> mix;
+
+    /*
+     * Requests due while this many are outstanding are counted as dropped instead of being sent.
+     */
+    int maxInFlight;
+
+    Duration timeout;
+
+    // Null unless the full latency distributions should be written out.
+    Path histogramDir;
+
+    // Property name to value, for both applications.
+    Map<String, String> applicationProperties;
+
+    static LoadTestOptions parse(String... args) {
+        SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+        Map<String, String> applicationProperties = new LinkedHashMap<>();
+        for (String name : options.getPropertyNames()) {
+            if (!OPTIONS.contains(name)) {
+                applicationProperties.put(name, options.getProperty(name));
+            }
+        }
+        String histogramDir = options.getProperty("histogram-dir");
+        return LoadTestOptions.builder()
+                .rate(Double.parseDouble(option(options, "rate", "200")))
+                .duration(DurationStyle.detectAndParse(option(options, "duration", "60s")))
+                .warmup(DurationStyle.detectAndParse(option(options, "warmup", "10s")))
+                .mix(parseMix(options.getProperty("mix")))
+                .maxInFlight(Integer.parseInt(option(options, "max-in-flight", "10000")))
+                .timeout(DurationStyle.detectAndParse(option(options, "timeout", "10s")))
+                .histogramDir(histogramDir != null ? Path.of(histogramDir) : null)
+                .applicationProperties(applicationProperties)
+                .build();
+    }
+
+    private static String option(SimpleCommandLinePropertySource options, String name, String defaultValue) {
+        String value = options.getProperty(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Parses {@code getById:30,search:20,...}; operations left out are not run. Without a mix every operation runs
+     * with its default weight.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        if (mix == null || mix.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                weights.put(operation, operation.defaultWeight());
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <operation>:<weight> in mix, got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The seven {@code IEmployeeController} operations, with the weight each gets in the default mix.
+ */
+enum Operation {
+    GET_ALL("getAll", 10),
+    SEARCH_BY_NAME("search", 20),
+    GET_BY_ID("getById", 30),
+    HIGHEST_SALARY("highestSalary", 10),
+    TOP_TEN_NAMES("topTen", 10),
+    CREATE("create", 10),
+    DELETE("delete", 10);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Operation(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency distribution and outcome counts of one operation. Latencies are recorded in microseconds and measured from
+ * the time a request was due rather than when it was sent, so a stalled sender shows up in the tail instead of being
+ * hidden by fewer requests (coordinated omission).
+ */
+final class OperationStats {
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param status HTTP status of the response, or -1 when no response was received (I/O error or timeout)
+     */
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (status < 0) {
+            failed.increment();
+        } else if (status == 404) {
+            notFound.increment();
+        } else if (status == 429) {
+            throttled.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            succeeded.increment();
+        }
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long notFound() {
+        return notFound.sum();
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Added to the mock server's context to count the responses it sends the api, including the 429s it throttles with.
+ */
+public class UpstreamStatusFilter extends OncePerRequestFilter {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            requests.increment();
+            if (response.getStatus() == 429) {
+                throttled.increment();
+            } else if (response.getStatus() >= 400) {
+                errors.increment();
+            }
+        }
+    }
+
+    void reset() {
+        requests.reset();
+        throttled.reset();
+        errors.reset();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Picks operations according to the mix and builds their requests against the api.
+ *
+ * <p>Reads target the employees that existed when the run started. Deletes remove employees created during the run, so
+ * the seeded population stays readable throughout; a delete due before any create has completed targets an unknown id
+ * and exercises the not-found path instead.
+ */
+final class Workload {
+    private final String baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private final List<String> seedIds;
+    private final List<String> seedNames;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    Workload(String baseUrl, Map<Operation, Integer> mix, JsonNode employees, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        List<Operation> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.operations = weighted.toArray(Operation[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+
+        this.seedIds = new ArrayList<>();
+        this.seedNames = new ArrayList<>();
+        for (JsonNode employee : employees) {
+            seedIds.add(employee.path("id").asText());
+            seedNames.add(employee.path("employee_name").asText());
+        }
+        if (seedIds.isEmpty()) {
+            throw new IllegalStateException("The mock server has no employees to read");
+        }
+    }
+
+    Operation next(RandomGenerator random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= pick) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    HttpRequest request(Operation operation, RandomGenerator random) {
+        return switch (operation) {
+            case GET_ALL -> get(baseUrl);
+            case SEARCH_BY_NAME -> get(baseUrl + "/search/" + nameFragment(random));
+            case GET_BY_ID -> get(baseUrl + "/" + seedIds.get(random.nextInt(seedIds.size())));
+            case HIGHEST_SALARY -> get(baseUrl + "/highestSalary");
+            case TOP_TEN_NAMES -> get(baseUrl + "/topTenHighestEarningEmployeeNames");
+            case CREATE -> builder(baseUrl)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                    .build();
+            case DELETE -> {
+                String id = created.poll();
+                yield builder(baseUrl + "/" + (id != null ? id : UUID.randomUUID())).DELETE().build();
+            }
+        };
+    }
+
+    /**
+     * Keeps track of the employees created during the run, so that deletes have something to remove.
+     */
+    void onResponse(Operation operation, HttpResponse<String> response) {
+        if (operation != Operation.CREATE || response.statusCode() / 100 != 2) {
+            return;
+        }
+        try {
+            String id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                created.add(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return three consecutive characters of a seeded employee's name, encoded as a path segment
+     */
+    private String nameFragment(RandomGenerator random) {
+        String name = seedNames.get(random.nextInt(seedNames.size()));
+        int start = name.length() > 3 ? random.nextInt(name.length() - 2) : 0;
+        return UriUtils.encodePathSegment(name.substring(start, Math.min(name.length(), start + 3)), "UTF-8");
+    }
+
+    private static String createBody(RandomGenerator random) {
+        return """
+                {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                .formatted(random.nextInt(1_000_000), random.nextInt(30_000, 500_000), random.nextInt(16, 76));
+    }
+
+    private HttpRequest get(String url) {
+        return builder(url).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+}
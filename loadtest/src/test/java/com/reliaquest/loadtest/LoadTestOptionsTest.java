@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class LoadTestOptionsTest {
+
+    @Test
+    void testParsesOptionsAndPassesOtherPropertiesToTheApplications() {
+        LoadTestOptions options = LoadTestOptions.parse(
+                "--rate=5000",
+                "--duration=2m",
+                "--mix=getById:3,create:1",
+                "--spring.threads.virtual.enabled=true",
+                "--mock.response-delay=200ms");
+
+        assertEquals(5000, options.getRate());
+        assertEquals(Duration.ofMinutes(2), options.getDuration());
+        assertEquals(Duration.ofSeconds(10), options.getWarmup());
+        assertEquals(Map.of(Operation.GET_BY_ID, 3, Operation.CREATE, 1), options.getMix());
+        assertEquals(
+                Map.of("spring.threads.virtual.enabled", "true", "mock.response-delay", "200ms"),
+                options.getApplicationProperties());
+        assertNull(options.getHistogramDir());
+    }
+
+    @Test
+    void testDefaultMixRunsEveryOperation() {
+        assertEquals(Operation.values().length, LoadTestOptions.parse().getMix().size());
+    }
+
+    @Test
+    void testRejectsUnknownOperationsAndEmptyMixes() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parseMix("getEverything:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parseMix("getAll"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parseMix("getAll:0"));
+    }
+
+    @Test
+    void testOperationsArePickedByWeight() throws JsonProcessingException {
+        Workload workload = new Workload(
+                "http://localhost/api/v1/employee",
+                LoadTestOptions.parseMix("getById:3,create:1,delete:0"),
+                new ObjectMapper().readTree("[{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\"}]"),
+                Duration.ofSeconds(1));
+        SplittableRandom random = new SplittableRandom(1);
+        int byId = 0;
+        for (int i = 0; i < 10_000; i++) {
+            Operation operation = workload.next(random);
+            assertNotEquals(Operation.DELETE, operation);
+            if (operation == Operation.GET_BY_ID) {
+                byId++;
+            }
+        }
+        assertEquals(7500, byId, 250);
+    }
+}
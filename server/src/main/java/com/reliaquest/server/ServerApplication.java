@@ -1,12 +1,22 @@
 package com.reliaquest.server;
 
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 
 @SpringBootApplication
 public class ServerApplication {
 
+    /*
+     * The server reads mock-employee-api.yml rather than application.yml, so that it can share a classpath (and a JVM)
+     * with the api module, whose application.yml would otherwise shadow its own.
+     */
+    public static final String CONFIG_NAME = "mock-employee-api";
+
     public static void main(String[] args) {
-        SpringApplication.run(ServerApplication.class, args);
+        application().run(args);
+    }
+
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ServerApplication.class).properties("spring.config.name=" + CONFIG_NAME);
     }
 }
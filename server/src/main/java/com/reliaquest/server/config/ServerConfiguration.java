@@ -1,21 +1,29 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.seed.MockEmployeeSeeder;
+import com.reliaquest.server.store.ColumnarMockEmployeeStore;
+import com.reliaquest.server.store.DurableMockEmployeeStore;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.web.ResponseDelayInterceptor;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,35 +33,113 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.response-delay:0ms}")
+    private Duration responseDelay;
+
+    @Value("${mock.rate-limit.mode:random}")
+    private RateLimitMode rateLimitMode;
+
+    @Value("${mock.rate-limit.requests-per-second:50}")
+    private double rateLimitRequestsPerSecond;
+
+    @Value("${mock.rate-limit.burst:100}")
+    private int rateLimitBurst;
+
+    @Value("${mock.rate-limit.client-header:}")
+    private String rateLimitClientHeader;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Offers Smile, Jackson's binary encoding of the same JSON data model, to clients that ask for it with
+     * Accept: application/x-jackson-smile. It takes the place of Spring's default Smile converter, behind the JSON one,
+     * so JSON stays the default; unlike the default it is built from the application's Jackson settings.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * The store is mutable by design for CRUD operations; the generated list only seeds it. Without a configured seed
+     * a random one is used, and logged so that the run's data can be reproduced. A persistent store is only seeded
+     * the first time it is opened.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.store.engine:heap}") StoreEngine engine,
+            @Value("${mock.store.off-heap:false}") boolean offHeap,
+            @Value("${mock.store.persistence.enabled:false}") boolean persistent,
+            @Value("${mock.store.persistence.directory:data}") String directory,
+            @Value("${mock.store.persistence.compact-after:100000}") int compactAfter,
+            @Value("${mock.store.persistence.fsync:false}") boolean fsync)
+            throws IOException {
+        final var seeder = new MockEmployeeSeeder(
+                seed != null ? seed : ThreadLocalRandom.current().nextLong(), Locale.getDefault());
+        final Function<Collection<MockEmployee>, MockEmployeeStore> storeFactory =
+                switch (engine) {
+                    case HEAP -> InMemoryMockEmployeeStore::new;
+                    case COLUMNAR -> employees -> logFootprint(new ColumnarMockEmployeeStore(employees, offHeap));
+                };
+        if (!persistent) {
+            return storeFactory.apply(seeder.generate(maxEmployees));
+        }
+        return DurableMockEmployeeStore.open(
+                Path.of(directory), storeFactory, () -> seeder.generate(maxEmployees), compactAfter, fsync);
+    }
+
+    private static ColumnarMockEmployeeStore logFootprint(ColumnarMockEmployeeStore store) {
+        final var bytes = store.memoryBytes();
+        log.info(
+                "Columnar store holds {} employees in {} MB ({} bytes per employee)",
+                store.size(),
+                bytes >> 20,
+                store.size() == 0 ? 0 : bytes / store.size());
+        return store;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (responseDelay.isPositive()) {
+            registry.addInterceptor(new ResponseDelayInterceptor(responseDelay));
+        }
+        switch (rateLimitMode) {
+            case RANDOM -> registry.addInterceptor(new RandomRequestLimitInterceptor());
+            case TOKEN_BUCKET -> registry.addInterceptor(new TokenBucketRequestLimitInterceptor(
+                    rateLimitRequestsPerSecond, rateLimitBurst, rateLimitClientHeader));
+            case NONE -> {}
+        }
+    }
+
+    public enum RateLimitMode {
+        /**
+         * Rejects requests with 429 for a random back-off once a random number of requests has been served.
+         */
+        RANDOM,
+        /**
+         * Limits each client to a steady rate with bounded bursts, answering 429 with a {@code Retry-After} header.
+         */
+        TOKEN_BUCKET,
+        /**
+         * Never rejects; for measuring latency without the upstream's throttling in the way.
+         */
+        NONE
+    }
+
+    public enum StoreEngine {
+        /**
+         * One {@code MockEmployee} object per employee, indexed by id and name in hash maps.
+         */
+        HEAP,
+        /**
+         * Primitive columns with a dictionary for titles, materializing {@code MockEmployee} objects only when read.
+         */
+        COLUMNAR
     }
 }
@@ -0,0 +1,147 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event streams of employee changes. Each subscriber gets a {@code changes} event, carrying the same
+ * payload as {@code GET /changes} and the resulting data version as its id, for every batch of creates and deletes
+ * after the version it subscribed from. A subscriber that falls further behind than the change log reaches gets a
+ * {@code resync} event and the stream ends.
+ *
+ * <p>Writers only signal subscribers; every subscriber reads its changes from the change log on a virtual thread of
+ * its own, so a slow client never holds up a write and events always arrive in version order. Every
+ * {@code heartbeatInterval} each subscriber is also sent a {@code changes} event even if it is empty, which tells the
+ * client its data is still current and detects clients that went away.
+ */
+@Slf4j
+@Component
+public class MockEmployeeChangeStreams {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final long timeoutMillis;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("change-stream-heartbeat").factory());
+    private final Runnable changeListener = () -> subscriptions.forEach(subscription -> subscription.signal(false));
+
+    public MockEmployeeChangeStreams(
+            MockEmployeeService mockEmployeeService,
+            @Value("${mock.changes.stream-timeout:30m}") Duration timeout,
+            @Value("${mock.changes.heartbeat-interval:10s}") Duration heartbeatInterval) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.timeoutMillis = timeout.toMillis();
+        final var interval = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(
+                () -> subscriptions.forEach(subscription -> subscription.signal(true)),
+                interval,
+                interval,
+                TimeUnit.MILLISECONDS);
+        mockEmployeeService.addChangeListener(changeListener);
+    }
+
+    /**
+     * Opens a stream of the changes made after data version {@code since}. The changes already made are sent right
+     * away, or just the current version when there are none, so that the client knows where it stands.
+     */
+    public SseEmitter subscribe(long since) {
+        final var subscription = new Subscription(new SseEmitter(timeoutMillis), since);
+        subscription.emitter.onCompletion(subscription::close);
+        subscription.emitter.onTimeout(subscription.emitter::complete);
+        subscription.emitter.onError(failure -> subscription.close());
+        subscriptions.add(subscription);
+        subscription.signal(true);
+        return subscription.emitter;
+    }
+
+    @PreDestroy
+    void close() {
+        mockEmployeeService.removeChangeListener(changeListener);
+        heartbeats.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+
+        // Only read and written by the single drain running at a time.
+        private long version;
+
+        Subscription(SseEmitter emitter, long version) {
+            this.emitter = emitter;
+            this.version = version;
+        }
+
+        void signal(boolean heartbeat) {
+            if (heartbeat) {
+                heartbeatDue = true;
+            }
+            if (pendingSignals.getAndIncrement() == 0) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        // Signals that arrive while a send is under way are folded into one more pass over the change log.
+        private void drain() {
+            int missed = 1;
+            do {
+                send();
+                missed = pendingSignals.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void send() {
+            if (closed) {
+                return;
+            }
+            final var changes = mockEmployeeService.getChanges(version);
+            try {
+                if (changes.resyncRequired()) {
+                    emitter.send(SseEmitter.event().name("resync").data(changes, MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                    close();
+                } else if (!changes.changes().isEmpty() || heartbeatDue) {
+                    heartbeatDue = false;
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(changes.version()))
+                            .name("changes")
+                            .data(changes, MediaType.APPLICATION_JSON));
+                    version = changes.version();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping change stream subscriber: {}", e.toString());
+                emitter.completeWithError(e);
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -1,42 +1,116 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    /**
+     * Response header carrying the data version a full list was read at; the version to pass to {@code /changes}.
+     */
+    public static final String DATA_VERSION_HEADER = "X-Data-Version";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeChangeStreams changeStreams;
+
+    private final MockEmployeeListCache listCache;
+
+    /**
+     * Returns every employee, tagged with the current data version as its ETag. A request whose
+     * {@code If-None-Match} still names that version is answered with 304 before anything is read or serialized.
+     * Otherwise the response is written from the bytes {@link MockEmployeeListCache} keeps for the version, gzipped
+     * when the client accepts it.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(WebRequest request) {
+        if (request.checkNotModified(etag(mockEmployeeService.getDataVersion()))) {
+            return null;
+        }
+        final var list = listCache.get(request.getHeaderValues(HttpHeaders.ACCEPT));
+        final var response = ResponseEntity.ok()
+                .eTag(etag(list.version()))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(list.mediaType())
+                .header(DATA_VERSION_HEADER, String.valueOf(list.version()));
+        if (list.gzipped() != null
+                && MockEmployeeListCache.acceptsGzip(request.getHeaderValues(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(list.gzipped());
+        }
+        return response.body(list.body());
+    }
+
+    /**
+     * Returns the creates and deletes made after data version {@code since}, so a client holding the list as of that
+     * version can catch up at a cost proportional to the changes rather than to the headcount.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getChanges(@RequestParam(name = "since") long since) {
+        return Response.handledWith(mockEmployeeService.getChanges(since));
+    }
+
+    /**
+     * Streams the changes after a data version as server-sent events, as they are made. The stream resumes from the
+     * {@code Last-Event-ID} a reconnecting client sends, else from {@code since}, else from the current version.
+     */
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        final var from = lastEventId != null ? lastEventId : since;
+        return changeStreams.subscribe(from != null ? from : mockEmployeeService.getDataVersion());
     }
 
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        return Response.handledWith(mockEmployeeService.getMockEmployeePage(offset, limit));
+    }
+
+    /**
+     * Returns one employee, tagged like the list with the current data version. The lookup runs first so that a
+     * deleted employee is reported as 404 rather than as not modified.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
-        return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid, WebRequest request) {
+        final var etag = etag(mockEmployeeService.getDataVersion());
+        final var employee = mockEmployeeService.findById(uuid);
+        if (employee.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(Response.handledWith(employee.get()));
     }
 
     @PostMapping()
@@ -44,8 +118,18 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    @PostMapping("/bulk")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    // Weak, as the JSON and Smile encodings of one version are equivalent but not byte-for-byte equal.
+    private static String etag(long dataVersion) {
+        return "W/\"v" + dataVersion + "\"";
+    }
 }
@@ -0,0 +1,196 @@
+package com.reliaquest.server.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * The list response, encoded as JSON and as Smile and gzipped, kept for as long as the data version stays the same.
+ * Every list request between two writes is then answered with the same bytes instead of serializing and compressing
+ * every employee again. Writes only move the data version on; the first request for a format after them encodes the
+ * list anew, once however many requests for it arrive at the same time.
+ *
+ * <p>The gzipped copy follows {@code server.compression}, as the compression it replaces did: it is only made when
+ * compression is enabled, the format is one of its mime types and the response is at least its minimum size. It is
+ * compressed at the best level, as that work is done once per version rather than once per request.
+ */
+@Component
+public class MockEmployeeListCache {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Compression compression;
+    private final Encoding json;
+    private final Encoding smile;
+
+    @Autowired
+    public MockEmployeeListCache(
+            MockEmployeeService mockEmployeeService,
+            MappingJackson2HttpMessageConverter jsonConverter,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            ServerProperties serverProperties) {
+        this(
+                mockEmployeeService,
+                jsonConverter.getObjectMapper(),
+                smileConverter.getObjectMapper(),
+                serverProperties.getCompression());
+    }
+
+    MockEmployeeListCache(
+            MockEmployeeService mockEmployeeService,
+            ObjectMapper jsonMapper,
+            ObjectMapper smileMapper,
+            Compression compression) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.compression = compression;
+        this.json = new Encoding(MediaType.APPLICATION_JSON, jsonMapper);
+        this.smile = new Encoding(APPLICATION_SMILE, smileMapper);
+    }
+
+    /**
+     * Returns the list as of the current data version or later, encoded in the format {@code accept} prefers.
+     */
+    public EncodedList get(String[] accept) {
+        return (negotiate(accept).equals(APPLICATION_SMILE) ? smile : json).current();
+    }
+
+    /**
+     * Picks Smile when the most preferred acceptable type names it and not JSON, and JSON otherwise, including when
+     * the client accepts neither; equally preferred types rank in the client's order.
+     */
+    static MediaType negotiate(String[] accept) {
+        final List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept == null ? List.of() : Arrays.asList(accept)));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // List.sort is stable, so the client's order is kept among types of the same quality.
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (type.includes(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Whether {@code acceptEncoding} lists gzip without ruling it out with {@code q=0}.
+     */
+    static boolean acceptsGzip(String[] acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                final var parameters = coding.split(";");
+                if (parameters[0].trim().equalsIgnoreCase("gzip") && !hasZeroQuality(parameters)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasZeroQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final var parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                return parameter.substring(2).matches("0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean compresses(MediaType mediaType, int length) {
+        return compression.getEnabled()
+                && length >= compression.getMinResponseSize().toBytes()
+                && Arrays.stream(compression.getMimeTypes())
+                        .anyMatch(mimeType -> MediaType.parseMediaType(mimeType).equalsTypeAndSubtype(mediaType));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        final var compressed = new ByteArrayOutputStream(body.length / 4);
+        try (var out = new BestCompressionGzipOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * One encoding of the list. {@code gzipped} is null when the response is not to be compressed.
+     */
+    public record EncodedList(long version, MediaType mediaType, byte[] body, byte[] gzipped) {}
+
+    private final class Encoding {
+        private final MediaType mediaType;
+        private final ObjectMapper objectMapper;
+        private volatile EncodedList encoded;
+
+        Encoding(MediaType mediaType, ObjectMapper objectMapper) {
+            this.mediaType = mediaType;
+            this.objectMapper = objectMapper;
+        }
+
+        EncodedList current() {
+            final var cached = encoded;
+            if (cached != null && cached.version() == mockEmployeeService.getDataVersion()) {
+                return cached;
+            }
+            synchronized (this) {
+                // The version is read before the employees, so the data is never older than the version it is kept as.
+                final var version = mockEmployeeService.getDataVersion();
+                if (encoded == null || encoded.version() != version) {
+                    encoded = encode(version);
+                }
+                return encoded;
+            }
+        }
+
+        private EncodedList encode(long version) {
+            final byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(Response.handledWith(mockEmployeeService.getMockEmployees()));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new EncodedList(version, mediaType, body, compresses(mediaType, body.length) ? gzip(body) : null);
+        }
+    }
+}
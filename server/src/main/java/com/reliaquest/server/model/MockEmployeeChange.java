@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete, tagged with the data version it produced. Every employee of a bulk create shares one version.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
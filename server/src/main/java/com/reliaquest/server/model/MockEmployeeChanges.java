@@ -0,0 +1,17 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * The changes made after some data version, in the order they were applied, and the version they bring a client up
+ * to. {@code resyncRequired} means that version is no longer covered by the change log, so the client has to fetch the
+ * full list instead; {@code changes} is then empty.
+ */
+public record MockEmployeeChanges(
+        long version, @JsonProperty("resync_required") boolean resyncRequired, List<MockEmployeeChange> changes) {
+
+    public static MockEmployeeChanges resync(long version) {
+        return new MockEmployeeChanges(version, true, List.of());
+    }
+}
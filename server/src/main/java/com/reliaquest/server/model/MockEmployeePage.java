@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * One page of the employee listing. {@code nextOffset} is the continuation token for the following page and is
+ * {@code null} on the last one; {@code total} lets clients request the remaining pages concurrently.
+ */
+public record MockEmployeePage(
+        List<MockEmployee> employees, int offset, int total, @JsonProperty("next_offset") Integer nextOffset) {}
@@ -0,0 +1,89 @@
+package com.reliaquest.server.seed;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Generates the employees the server starts with, in parallel and reproducibly.
+ *
+ * <p>Employees are generated in fixed-size chunks on the common fork-join pool. Each chunk has its own {@link Faker},
+ * seeded from the seed and the chunk's index, and fills its own slice of the result, so the output for a given seed,
+ * count and locale is the same however many threads run and in whichever order the chunks finish.
+ */
+@Slf4j
+public class MockEmployeeSeeder {
+
+    static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+    private final long seed;
+    private final Locale locale;
+    private final int chunkSize;
+
+    public MockEmployeeSeeder(long seed, Locale locale) {
+        this(seed, locale, DEFAULT_CHUNK_SIZE);
+    }
+
+    MockEmployeeSeeder(long seed, Locale locale, int chunkSize) {
+        this.seed = seed;
+        this.locale = locale;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var started = System.nanoTime();
+        final var employees = new MockEmployee[Math.max(0, count)];
+        final var chunks = (employees.length + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> fill(employees, chunk));
+
+        final var elapsedNanos = Math.max(1, System.nanoTime() - started);
+        log.info(
+                "Generated {} employees from seed {} in {} ms ({} employees/s)",
+                employees.length,
+                seed,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                employees.length * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return Arrays.asList(employees);
+    }
+
+    private void fill(MockEmployee[] employees, int chunk) {
+        final var faker = new Faker(locale, new Random(chunkSeed(chunk)));
+        final var random = faker.random();
+        final var end = Math.min(employees.length, (chunk + 1) * chunkSize);
+        for (int i = chunk * chunkSize; i < end; i++) {
+            employees[i] = new MockEmployee(
+                    randomUuid(random.nextLong(), random.nextLong()),
+                    faker.name().fullName(),
+                    faker.number().numberBetween(30000, 500000),
+                    faker.number().numberBetween(16, 70),
+                    faker.job().title(),
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()));
+        }
+    }
+
+    /*
+     * Spreads neighbouring chunk indexes over unrelated seeds, since java.util.Random streams from close seeds start
+     * out correlated.
+     */
+    private long chunkSeed(int chunk) {
+        return new SplittableRandom(seed + chunk * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /*
+     * A version 4 UUID built from the given bits rather than from SecureRandom, so that ids are reproducible.
+     */
+    private static UUID randomUuid(long mostSigBits, long leastSigBits) {
+        return new UUID(
+                (mostSigBits & ~0xF000L) | 0x4000L, (leastSigBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+}
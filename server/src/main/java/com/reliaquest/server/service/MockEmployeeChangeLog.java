@@ -0,0 +1,92 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The data version and the most recent changes behind it, held in a fixed-size ring buffer so that memory stays
+ * bounded however many changes are made. Once a change is overwritten, clients still at a version before it are told
+ * to resync. Thread-safe; the version can be read without locking.
+ */
+final class MockEmployeeChangeLog {
+
+    private final MockEmployeeChange[] entries;
+    private int head;
+    private int size;
+
+    // Every change made after this version is still in the buffer.
+    private long floor;
+    private volatile long version;
+
+    MockEmployeeChangeLog(int capacity, long initialVersion) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change log capacity must be at least 1");
+        }
+        this.entries = new MockEmployeeChange[capacity];
+        this.floor = initialVersion;
+        this.version = initialVersion;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Records {@code employees} as one change of {@code type}, all under a single new version.
+     *
+     * @return the new version
+     */
+    synchronized long append(MockEmployeeChange.Type type, List<MockEmployee> employees) {
+        final var next = version + 1;
+        for (final var employee : employees) {
+            if (size == entries.length) {
+                floor = entries[head].version();
+                entries[head] = null;
+                head = (head + 1) % entries.length;
+                size--;
+            }
+            entries[(head + size) % entries.length] = new MockEmployeeChange(next, type, employee);
+            size++;
+        }
+        version = next;
+        return next;
+    }
+
+    /**
+     * Returns every change made after {@code since}, or a resync marker when {@code since} is older than the buffer
+     * reaches back or newer than the current version, as versions from before a server restart can be.
+     */
+    synchronized MockEmployeeChanges since(long since) {
+        if (since < floor || since > version) {
+            return MockEmployeeChanges.resync(version);
+        }
+        final var from = firstAfter(since);
+        final var changes = new ArrayList<MockEmployeeChange>(size - from);
+        for (int i = from; i < size; i++) {
+            changes.add(entry(i));
+        }
+        return new MockEmployeeChanges(version, false, changes);
+    }
+
+    // Versions never decrease along the buffer, so the first change after a version is found by binary search.
+    private int firstAfter(long since) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (entry(middle).version() <= since) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private MockEmployeeChange entry(int index) {
+        return entries[(head + index) % entries.length];
+    }
+}
@@ -4,55 +4,152 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.store.MockEmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 10_000;
+
+    private static final int DEFAULT_CHANGE_LOG_CAPACITY = 10_000;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    // Store writes and their change log entries are applied together, so the log orders changes as the store did.
+    private final Object writeLock = new Object();
+
+    private final MockEmployeeChangeLog changeLog;
+
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    public MockEmployeeService(Faker faker, MockEmployeeStore mockEmployeeStore) {
+        this(faker, mockEmployeeStore, DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    @Autowired
+    public MockEmployeeService(
+            Faker faker,
+            MockEmployeeStore mockEmployeeStore,
+            @Value("${mock.changes.capacity:10000}") int changeLogCapacity) {
+        this.faker = faker;
+        this.mockEmployeeStore = mockEmployeeStore;
+        // Versions start from the clock, so those handed out before a restart are never reused for different data.
+        this.changeLog = new MockEmployeeChangeLog(
+                changeLogCapacity, TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    }
+
+    /**
+     * Returns the current data version, which every create and successful delete increases. Callers that read it
+     * before reading the employees can only ever label data with a version older than the data itself, so a version a
+     * client saw earlier still equal to this one means nothing changed since.
+     */
+    public long getDataVersion() {
+        return changeLog.version();
+    }
+
+    /**
+     * Returns the creates and deletes made after data version {@code since}, or a resync marker once the change log no
+     * longer reaches back that far. Replaying them over a list read at {@code since} yields the current list.
+     */
+    public MockEmployeeChanges getChanges(long since) {
+        return changeLog.since(since);
+    }
+
+    /**
+     * Registers {@code listener} to run after every change, on the thread that made it. Listeners are only told that
+     * something changed and read the changes through {@link #getChanges}, so they must return quickly.
+     */
+    public void addChangeListener(@NonNull Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    /**
+     * Returns up to {@code limit} employees starting at {@code offset}, taken from a single consistent snapshot.
+     * Out-of-range arguments are clamped rather than rejected.
+     */
+    public MockEmployeePage getMockEmployeePage(int offset, int limit) {
+        final var employees = mockEmployeeStore.snapshot();
+        final var from = Math.min(Math.max(0, offset), employees.size());
+        final var to = Math.min(employees.size(), from + Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return new MockEmployeePage(
+                employees.subList(from, to), from, employees.size(), to < employees.size() ? to : null);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
+        final var mockEmployee = newMockEmployee(input);
+        synchronized (writeLock) {
+            mockEmployeeStore.add(mockEmployee);
+            changeLog.append(MockEmployeeChange.Type.CREATED, List.of(mockEmployee));
+        }
+        notifyChangeListeners();
+        log.debug("Added employee: {}", mockEmployee);
+        return mockEmployee;
+    }
+
+    /**
+     * Creates every input as one atomic store update, returning the employees in input order.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::newMockEmployee).toList();
+        synchronized (writeLock) {
+            mockEmployeeStore.addAll(mockEmployees);
+            changeLog.append(MockEmployeeChange.Type.CREATED, mockEmployees);
+        }
+        notifyChangeListeners();
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
-        log.debug("Added employee: {}", mockEmployee);
-        return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (writeLock) {
+            mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+            mockEmployee.ifPresent(employee -> changeLog.append(MockEmployeeChange.Type.DELETED, List.of(employee)));
         }
+        mockEmployee.ifPresent(employee -> {
+            log.debug("Removed employee: {}", employee);
+            notifyChangeListeners();
+        });
+        return mockEmployee.isPresent();
+    }
 
-        return false;
+    private void notifyChangeListeners() {
+        changeListeners.forEach(Runnable::run);
     }
 }
@@ -0,0 +1,559 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Store that keeps employees in primitive columns rather than one object graph each: ids as two {@code long} columns,
+ * salary and age as {@code int} columns, titles as {@code int} codes into a dictionary, and names and emails as UTF-8
+ * in one byte arena. Columns are heap arrays, or direct buffers outside the heap when {@code offHeap} is set.
+ * {@link MockEmployee} objects are only created for the employees a caller actually reads, so {@link #snapshot} is a
+ * view that materializes each element when it is got.
+ *
+ * <p>Rows are only ever appended; a removed row is marked and left in place until removed rows outnumber live ones,
+ * when the live rows are copied into fresh columns. A snapshot therefore only needs the column references and the live
+ * row numbers of the moment it was taken, and later writes never touch the rows it reads. Re-adding an id that is
+ * already stored appends the new row too, but records it as the replacement of the old one and gives it the old row's
+ * place, so the employee keeps its place in the store order, and among employees with its name, as it does in
+ * {@link InMemoryMockEmployeeStore}.
+ *
+ * <p>Writers hold the write lock; lookups hold the read lock, and snapshots are rebuilt lazily as in
+ * {@link InMemoryMockEmployeeStore}.
+ */
+public class ColumnarMockEmployeeStore implements MockEmployeeStore {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_TEXT = -1;
+    private static final int NO_ROW = UuidIndex.NO_ROW;
+    private static final int MIN_ROWS = 1024;
+    // A guess at the UTF-8 bytes of one name and one email, with their length prefixes, to size the first arena.
+    private static final int TEXT_BYTES_PER_ROW = 48;
+
+    private final boolean offHeap;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock: one entry per row, removed rows included, in store order.
+    private LongBuffer idHighs;
+    private LongBuffer idLows;
+    private IntBuffer salaries;
+    private IntBuffer ages;
+    private IntBuffer titleCodes;
+    private IntBuffer nameOffsets;
+    private IntBuffer emailOffsets;
+    private ByteBuffer text;
+    private int textLength;
+    private int rows;
+    private BitSet removed;
+    private int removedRows;
+    // Guarded by lock: rows that took the place of an earlier row, and for each row the row that replaced it, if any.
+    private BitSet replacements;
+    private int[] replacedBy;
+    // Guarded by lock: for each row, the row number of the employee's first row since the columns were last reset.
+    private int[] places;
+
+    // Guarded by lock: title dictionary; codes are indexes into titles.
+    private String[] titles;
+    private int titleCount;
+    private Map<String, Integer> titleCodesByTitle;
+
+    // Guarded by lock: live rows by id, and live rows chained by folded name in store order.
+    private UuidIndex byId;
+    private int[] nameHashes;
+    private int[] nextSameBucket;
+    private int[] bucketHeads;
+    private int[] bucketTails;
+
+    // Null whenever a mutation has happened since it was last built.
+    private volatile List<MockEmployee> snapshot;
+
+    public ColumnarMockEmployeeStore(Collection<MockEmployee> employees) {
+        this(employees, false);
+    }
+
+    public ColumnarMockEmployeeStore(Collection<MockEmployee> employees, boolean offHeap) {
+        this.offHeap = offHeap;
+        employees.forEach(ColumnarMockEmployeeStore::requireId);
+        lock.writeLock().lock();
+        try {
+            reset(employees.size());
+            employees.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        List<MockEmployee> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().lock();
+        try {
+            current = snapshot;
+            if (current == null) {
+                current = new EmployeeView(columns(), liveRows());
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            int row = byId.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return row == NO_ROW ? Optional.empty() : Optional.of(columns().employee(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        requireId(employee);
+        lock.writeLock().lock();
+        try {
+            addLocked(employee);
+            snapshot = null;
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        employees.forEach(ColumnarMockEmployeeStore::requireId);
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::addLocked);
+            snapshot = null;
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name) {
+        lock.readLock().lock();
+        try {
+            int row = firstRowNamed(name);
+            return row == NO_ROW ? Optional.empty() : Optional.of(columns().employee(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        lock.writeLock().lock();
+        try {
+            int row = firstRowNamed(name);
+            if (row == NO_ROW) {
+                return Optional.empty();
+            }
+            MockEmployee employee = columns().employee(row);
+            removeRow(row);
+            snapshot = null;
+            compactIfSparse();
+            return Optional.of(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+     * Called holding the lock.
+     */
+    private int firstRowNamed(String name) {
+        String folded = InMemoryMockEmployeeStore.foldCase(name);
+        int hash = folded.hashCode();
+        for (int row = bucketHeads[bucket(hash)]; row != NO_ROW; row = nextSameBucket[row]) {
+            if (!removed.get(row)
+                    && nameHashes[row] == hash
+                    && folded.equals(InMemoryMockEmployeeStore.foldCase(readText(text, nameOffsets.get(row))))) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows - removedRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bytes allocated for the columns and indexes, on or off the heap, including spare capacity but not the
+     * dictionary's title strings.
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            long columnBytes = (long) idHighs.capacity() * (2 * Long.BYTES + 5 * Integer.BYTES);
+            long nameIndexBytes = (long) (nameHashes.length + nextSameBucket.length + places.length) * Integer.BYTES
+                    + (long) (bucketHeads.length + bucketTails.length) * Integer.BYTES;
+            long removalBytes = (long) replacedBy.length * Integer.BYTES + (removed.size() + replacements.size()) / 8;
+            return columnBytes + text.capacity() + byId.memoryBytes() + nameIndexBytes + removalBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(MockEmployee employee) {
+        long high = employee.getId().getMostSignificantBits();
+        long low = employee.getId().getLeastSignificantBits();
+        int existing = byId.get(high, low);
+        if (existing != NO_ROW) {
+            removeRow(existing);
+        }
+        byte[] name = utf8(employee.getName());
+        byte[] email = utf8(employee.getEmail());
+        ensureCapacity(rows + 1, textBytes(name) + textBytes(email));
+
+        int row = rows++;
+        idHighs.put(row, high);
+        idLows.put(row, low);
+        salaries.put(row, employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        ages.put(row, employee.getAge() == null ? NULL_INT : employee.getAge());
+        titleCodes.put(row, titleCode(employee.getTitle()));
+        nameOffsets.put(row, appendText(name));
+        emailOffsets.put(row, appendText(email));
+        byId.put(high, low, row);
+        replacedBy[row] = NO_ROW;
+        places[row] = row;
+        if (existing != NO_ROW) {
+            replacedBy[existing] = row;
+            replacements.set(row);
+            places[row] = places[existing];
+        }
+        if (employee.getName() != null) {
+            nameHashes[row] = InMemoryMockEmployeeStore.foldCase(employee.getName()).hashCode();
+            link(row);
+        }
+    }
+
+    private void removeRow(int row) {
+        removed.set(row);
+        removedRows++;
+        byId.remove(idHighs.get(row), idLows.get(row));
+    }
+
+    /*
+     * Removals and replacements both leave removed rows behind, so this runs after either.
+     */
+    private void compactIfSparse() {
+        if (removedRows > rows - removedRows && rows > MIN_ROWS) {
+            compact();
+        }
+    }
+
+    /*
+     * Copies the live rows, in store order, into fresh columns. Snapshots taken before keep reading the old ones.
+     */
+    private void compact() {
+        Columns current = columns();
+        int[] live = liveRows();
+        List<MockEmployee> employees = new ArrayList<>(live.length);
+        for (int row : live) {
+            employees.add(current.employee(row));
+        }
+        reset(employees.size());
+        employees.forEach(this::addLocked);
+    }
+
+    private void reset(int expectedRows) {
+        int capacity = Math.max(MIN_ROWS, expectedRows);
+        idHighs = longs(capacity);
+        idLows = longs(capacity);
+        salaries = ints(capacity);
+        ages = ints(capacity);
+        titleCodes = ints(capacity);
+        nameOffsets = ints(capacity);
+        emailOffsets = ints(capacity);
+        text = bytes((int) Math.min((long) capacity * TEXT_BYTES_PER_ROW, Integer.MAX_VALUE));
+        textLength = 0;
+        rows = 0;
+        removed = new BitSet(capacity);
+        removedRows = 0;
+        replacements = new BitSet(capacity);
+        replacedBy = new int[capacity];
+        places = new int[capacity];
+        titles = new String[16];
+        titleCount = 0;
+        titleCodesByTitle = new HashMap<>();
+        byId = new UuidIndex(capacity);
+        nameHashes = new int[capacity];
+        nextSameBucket = new int[capacity];
+        bucketHeads = new int[Integer.highestOneBit(capacity - 1) << 1];
+        bucketTails = new int[bucketHeads.length];
+        Arrays.fill(bucketHeads, NO_ROW);
+        Arrays.fill(bucketTails, NO_ROW);
+    }
+
+    private void ensureCapacity(int rowsNeeded, int textBytesNeeded) {
+        if (rowsNeeded > idHighs.capacity()) {
+            int capacity = Math.max(rowsNeeded, idHighs.capacity() * 2);
+            idHighs = grow(idHighs, capacity);
+            idLows = grow(idLows, capacity);
+            salaries = grow(salaries, capacity);
+            ages = grow(ages, capacity);
+            titleCodes = grow(titleCodes, capacity);
+            nameOffsets = grow(nameOffsets, capacity);
+            emailOffsets = grow(emailOffsets, capacity);
+            nameHashes = Arrays.copyOf(nameHashes, capacity);
+            nextSameBucket = Arrays.copyOf(nextSameBucket, capacity);
+            replacedBy = Arrays.copyOf(replacedBy, capacity);
+            places = Arrays.copyOf(places, capacity);
+        }
+        if (rowsNeeded > bucketHeads.length) {
+            rehashNames(bucketHeads.length * 2);
+        }
+        long textNeeded = (long) textLength + textBytesNeeded;
+        if (textNeeded > text.capacity()) {
+            long capacity = Math.max(textNeeded, 2L * text.capacity());
+            if (textNeeded > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Names and emails exceed the columnar store's 2 GB text limit");
+            }
+            ByteBuffer grown = bytes((int) Math.min(capacity, Integer.MAX_VALUE));
+            grown.put(0, text, 0, textLength);
+            text = grown;
+        }
+    }
+
+    /*
+     * Rebuilds the name chains with more buckets, dropping removed rows from them. Rows with the same name share a
+     * chain, so walking the old chains keeps them in their order.
+     */
+    private void rehashNames(int bucketCount) {
+        int[] oldBucketHeads = bucketHeads;
+        bucketHeads = new int[bucketCount];
+        bucketTails = new int[bucketCount];
+        Arrays.fill(bucketHeads, NO_ROW);
+        Arrays.fill(bucketTails, NO_ROW);
+        for (int head : oldBucketHeads) {
+            int row = head;
+            while (row != NO_ROW) {
+                int next = nextSameBucket[row];
+                if (!removed.get(row)) {
+                    link(row);
+                }
+                row = next;
+            }
+        }
+    }
+
+    /*
+     * Chains stay sorted by place. A new employee's place is after every other, so only a replacement can go before
+     * the tail, after the rows whose place comes before its own.
+     */
+    private void link(int row) {
+        int bucket = bucket(nameHashes[row]);
+        int tail = bucketTails[bucket];
+        if (tail == NO_ROW || places[tail] <= places[row]) {
+            nextSameBucket[row] = NO_ROW;
+            if (tail == NO_ROW) {
+                bucketHeads[bucket] = row;
+            } else {
+                nextSameBucket[tail] = row;
+            }
+            bucketTails[bucket] = row;
+            return;
+        }
+        int previous = NO_ROW;
+        int next = bucketHeads[bucket];
+        while (places[next] <= places[row]) {
+            previous = next;
+            next = nextSameBucket[next];
+        }
+        nextSameBucket[row] = next;
+        if (previous == NO_ROW) {
+            bucketHeads[bucket] = row;
+        } else {
+            nextSameBucket[previous] = row;
+        }
+    }
+
+    private int bucket(int hash) {
+        return (hash ^ (hash >>> 16)) & (bucketHeads.length - 1);
+    }
+
+    private int titleCode(String title) {
+        if (title == null) {
+            return NULL_TEXT;
+        }
+        Integer code = titleCodesByTitle.get(title);
+        if (code != null) {
+            return code;
+        }
+        if (titleCount == titles.length) {
+            // A new array, so that snapshots holding the old one are unaffected.
+            titles = Arrays.copyOf(titles, titles.length * 2);
+        }
+        titles[titleCount] = title;
+        titleCodesByTitle.put(title, titleCount);
+        return titleCount++;
+    }
+
+    private int appendText(byte[] value) {
+        int offset = textLength;
+        if (value == null) {
+            text.putInt(offset, NULL_TEXT);
+        } else {
+            text.putInt(offset, value.length);
+            text.put(offset + Integer.BYTES, value);
+        }
+        textLength += textBytes(value);
+        return offset;
+    }
+
+    /*
+     * Live rows in store order: a replacement is listed where the row it replaced was, not where it was appended.
+     */
+    private int[] liveRows() {
+        int[] live = new int[rows - removedRows];
+        int next = 0;
+        for (int row = replacements.nextClearBit(0); row < rows; row = replacements.nextClearBit(row + 1)) {
+            int current = row;
+            while (removed.get(current) && replacedBy[current] != NO_ROW) {
+                current = replacedBy[current];
+            }
+            if (!removed.get(current)) {
+                live[next++] = current;
+            }
+        }
+        return live;
+    }
+
+    private Columns columns() {
+        return new Columns(idHighs, idLows, salaries, ages, titleCodes, nameOffsets, emailOffsets, text, titles);
+    }
+
+    private LongBuffer longs(int capacity) {
+        return offHeap ? bytes(capacity * Long.BYTES).asLongBuffer() : LongBuffer.allocate(capacity);
+    }
+
+    private IntBuffer ints(int capacity) {
+        return offHeap ? bytes(capacity * Integer.BYTES).asIntBuffer() : IntBuffer.allocate(capacity);
+    }
+
+    private ByteBuffer bytes(int capacity) {
+        return offHeap
+                ? ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder())
+                : ByteBuffer.allocate(capacity);
+    }
+
+    private LongBuffer grow(LongBuffer column, int capacity) {
+        LongBuffer grown = longs(capacity);
+        grown.put(0, column, 0, rows);
+        return grown;
+    }
+
+    private IntBuffer grow(IntBuffer column, int capacity) {
+        IntBuffer grown = ints(capacity);
+        grown.put(0, column, 0, rows);
+        return grown;
+    }
+
+    private static int textBytes(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readText(ByteBuffer text, int offset) {
+        int length = text.getInt(offset);
+        if (length == NULL_TEXT) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        text.get(offset + Integer.BYTES, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void requireId(MockEmployee employee) {
+        if (employee.getId() == null) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+    }
+
+    private static Integer intOrNull(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    /**
+     * The column references of one moment. Rows that existed then are never written again, so reading them needs no
+     * lock.
+     */
+    private record Columns(
+            LongBuffer idHighs,
+            LongBuffer idLows,
+            IntBuffer salaries,
+            IntBuffer ages,
+            IntBuffer titleCodes,
+            IntBuffer nameOffsets,
+            IntBuffer emailOffsets,
+            ByteBuffer text,
+            String[] titles) {
+
+        MockEmployee employee(int row) {
+            int titleCode = titleCodes.get(row);
+            return new MockEmployee(
+                    new UUID(idHighs.get(row), idLows.get(row)),
+                    readText(text, nameOffsets.get(row)),
+                    intOrNull(salaries.get(row)),
+                    intOrNull(ages.get(row)),
+                    titleCode == NULL_TEXT ? null : titles[titleCode],
+                    readText(text, emailOffsets.get(row)));
+        }
+    }
+
+    private static final class EmployeeView extends AbstractList<MockEmployee> implements RandomAccess {
+        private final Columns columns;
+        private final int[] rows;
+
+        private EmployeeView(Columns columns, int[] rows) {
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return columns.employee(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorator that makes another {@link MockEmployeeStore} survive restarts, using a binary snapshot file and an
+ * append-only mutation log in one directory.
+ *
+ * <p>Every mutation is appended to the current log, {@code mutations-<n>.log}, as one entry framed by its length and
+ * CRC-32, and only then applied to the delegate, so a mutation that could not be logged is not applied either. An
+ * entry torn by a crash fails its check and is dropped, with anything after it, when the log is replayed. The
+ * snapshot, {@code employees.snapshot}, records the first log generation written after it was taken. Opening the store
+ * reads the snapshot through a memory-mapped buffer and every log from that generation on, and builds the delegate once
+ * from the result. Logs are read into the heap instead, as a log with a torn entry is truncated, which Windows refuses
+ * while any mapping of the file is still alive.
+ *
+ * <p>Once the current log holds {@code compactAfter} entries, writes move to a new log and a background thread writes
+ * a new snapshot from the delegate's state at that point, then deletes the logs it covers; until it has been renamed
+ * into place the old snapshot and logs still describe the store. Log writes reach the disk only when {@code fsync} is
+ * set: otherwise they survive the process dying, not the machine. Snapshots are always forced before they replace
+ * the previous one.
+ */
+@Slf4j
+public class DurableMockEmployeeStore implements MockEmployeeStore, Closeable {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+    static final String LOG_PREFIX = "mutations-";
+    static final String LOG_SUFFIX = ".log";
+
+    private static final int SNAPSHOT_MAGIC = 0x4D455331;
+    private static final int LOG_MAGIC = 0x4D454C31;
+    private static final int FORMAT_VERSION = 1;
+    // Magic, format version, first log generation and employee count.
+    private static final int SNAPSHOT_HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+    // Magic and format version.
+    private static final int LOG_HEADER_BYTES = 2 * Integer.BYTES;
+    // Payload length and CRC-32 of the payload.
+    private static final int ENTRY_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+
+    private final MockEmployeeStore delegate;
+    private final Path directory;
+    private final int compactAfter;
+    private final boolean fsync;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("employee-store-compactor").daemon().factory());
+
+    private final Object lock = new Object();
+    // Guarded by lock: the log being appended to.
+    private long generation;
+    private FileChannel logChannel;
+    private int logEntries;
+    private boolean compacting;
+
+    private DurableMockEmployeeStore(
+            MockEmployeeStore delegate,
+            Path directory,
+            long generation,
+            int logEntries,
+            int compactAfter,
+            boolean fsync)
+            throws IOException {
+        this.delegate = delegate;
+        this.directory = directory;
+        this.compactAfter = Math.max(1, compactAfter);
+        this.fsync = fsync;
+        this.generation = generation;
+        this.logEntries = logEntries;
+        this.logChannel = openLog(directory, generation);
+    }
+
+    /**
+     * Opens the store kept in {@code directory}, creating it from {@code initialEmployees} when there is none yet.
+     *
+     * @param storeFactory builds the delegate from the stored employees, in store order
+     */
+    public static DurableMockEmployeeStore open(
+            Path directory,
+            Function<Collection<MockEmployee>, MockEmployeeStore> storeFactory,
+            Supplier<List<MockEmployee>> initialEmployees,
+            int compactAfter,
+            boolean fsync)
+            throws IOException {
+        Files.createDirectories(directory);
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshotFile)) {
+            List<MockEmployee> employees = initialEmployees.get();
+            // Logs without the snapshot they apply to cannot be replayed.
+            deleteLogsBefore(directory, Long.MAX_VALUE);
+            writeSnapshot(directory, employees, 0);
+            log.info("Created employee store in {} with {} employees", directory, employees.size());
+            return new DurableMockEmployeeStore(storeFactory.apply(employees), directory, 0, 0, compactAfter, fsync);
+        }
+
+        final var started = System.nanoTime();
+        final var snapshot = readSnapshot(snapshotFile);
+        Map<UUID, MockEmployee> employees = snapshot.employees();
+        long current = snapshot.firstLogGeneration();
+        int entries = 0;
+        for (long logGeneration : logGenerations(directory)) {
+            if (logGeneration >= snapshot.firstLogGeneration()) {
+                entries += replay(logFile(directory, logGeneration), employees);
+                current = logGeneration;
+            }
+        }
+        // Left behind when a compaction renamed its snapshot but did not get to delete the logs it covers.
+        deleteLogsBefore(directory, snapshot.firstLogGeneration());
+        MockEmployeeStore delegate = storeFactory.apply(employees.values());
+        log.info(
+                "Loaded {} employees from {} in {} ms, replaying {} logged mutations",
+                employees.size(),
+                directory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                entries);
+        return new DurableMockEmployeeStore(delegate, directory, current, entries, compactAfter, fsync);
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        requireId(employee);
+        synchronized (lock) {
+            append(added(List.of(employee)));
+            delegate.add(employee);
+            logged();
+        }
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        employees.forEach(DurableMockEmployeeStore::requireId);
+        synchronized (lock) {
+            append(added(employees));
+            delegate.addAll(employees);
+            logged();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name) {
+        return delegate.findFirstByName(name);
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        synchronized (lock) {
+            // Every mutation goes through this lock, so the employee found is the one the delegate removes.
+            Optional<MockEmployee> target = delegate.findFirstByName(name);
+            if (target.isEmpty()) {
+                return target;
+            }
+            append(removed(target.get().getId()));
+            Optional<MockEmployee> removed = delegate.removeFirstByName(name);
+            logged();
+            return removed;
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Waits for a running compaction and closes the log. Mutations fail once the store is closed.
+     */
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (lock) {
+            logChannel.close();
+        }
+    }
+
+    private void append(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        long start = -1;
+        try {
+            start = logChannel.position();
+            while (entry.hasRemaining()) {
+                logChannel.write(entry);
+            }
+            if (fsync) {
+                logChannel.force(false);
+            }
+        } catch (IOException e) {
+            discardFrom(start);
+            throw new UncheckedIOException("Could not append to " + logFile(directory, generation), e);
+        }
+    }
+
+    /*
+     * A partly written entry would fail its check on replay and hide every entry appended after it.
+     */
+    private void discardFrom(long start) {
+        if (start < 0) {
+            return;
+        }
+        try {
+            logChannel.truncate(start);
+        } catch (IOException e) {
+            log.warn("Could not discard the failed entry from {}", logFile(directory, generation), e);
+        }
+    }
+
+    /*
+     * Called once the logged mutation has been applied to the delegate.
+     */
+    private void logged() {
+        if (++logEntries >= compactAfter && !compacting) {
+            startCompaction();
+        }
+    }
+
+    /*
+     * Called holding the lock, so the delegate's snapshot holds exactly the mutations logged before the new log.
+     */
+    private void startCompaction() {
+        List<MockEmployee> employees = delegate.snapshot();
+        long next = generation + 1;
+        FileChannel nextLog;
+        try {
+            nextLog = openLog(directory, next);
+        } catch (IOException e) {
+            log.warn("Could not start mutation log {}, will retry on the next write", next, e);
+            return;
+        }
+        closeQuietly(logChannel);
+        logChannel = nextLog;
+        generation = next;
+        logEntries = 0;
+        compacting = true;
+        compactor.execute(() -> compact(employees, next));
+    }
+
+    private void compact(List<MockEmployee> employees, long firstLogGeneration) {
+        try {
+            final var started = System.nanoTime();
+            writeSnapshot(directory, employees, firstLogGeneration);
+            deleteLogsBefore(directory, firstLogGeneration);
+            log.info(
+                    "Compacted {} employees into a new snapshot in {} ms",
+                    employees.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.error("Employee store compaction failed, keeping the mutation logs", e);
+        } finally {
+            synchronized (lock) {
+                compacting = false;
+            }
+        }
+    }
+
+    private static void requireId(MockEmployee employee) {
+        if (employee.getId() == null) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+    }
+
+    private static byte[] added(List<MockEmployee> employees) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(ADD);
+            out.writeInt(employees.size());
+            for (MockEmployee employee : employees) {
+                EmployeeRecordCodec.write(out, employee);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] removed(UUID id) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(REMOVE);
+            EmployeeRecordCodec.writeId(out, id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSnapshot(Path directory, Collection<MockEmployee> employees, long firstLogGeneration)
+            throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(firstLogGeneration);
+            out.writeInt(employees.size());
+            for (MockEmployee employee : employees) {
+                EmployeeRecordCodec.write(out, employee);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(
+                temporary,
+                directory.resolve(SNAPSHOT_FILE),
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Snapshot readSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = map(channel, file);
+            if (buffer.remaining() < SNAPSHOT_HEADER_BYTES
+                    || buffer.getInt() != SNAPSHOT_MAGIC
+                    || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            long firstLogGeneration = buffer.getLong();
+            int count = buffer.getInt();
+            Map<UUID, MockEmployee> employees = LinkedHashMap.newLinkedHashMap(count);
+            for (int i = 0; i < count; i++) {
+                MockEmployee employee = EmployeeRecordCodec.read(buffer);
+                employees.put(employee.getId(), employee);
+            }
+            return new Snapshot(firstLogGeneration, employees);
+        }
+    }
+
+    /**
+     * Applies the valid entries of a log to {@code employees}, truncating the log after the last of them.
+     *
+     * @return the number of entries applied
+     */
+    private static int replay(Path file, Map<UUID, MockEmployee> employees) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < LOG_HEADER_BYTES) {
+                channel.truncate(0);
+                return 0;
+            }
+            ByteBuffer buffer = readFully(channel, file);
+            if (buffer.getInt() != LOG_MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not an employee mutation log: " + file);
+            }
+            int entries = 0;
+            while (buffer.remaining() >= ENTRY_HEADER_BYTES) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    buffer.position(start);
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    buffer.position(start);
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                apply(payload, employees, file);
+                entries++;
+            }
+            if (buffer.hasRemaining()) {
+                log.warn("Dropping {} bytes of incomplete entries at the end of {}", buffer.remaining(), file);
+                channel.truncate(buffer.position());
+            }
+            return entries;
+        }
+    }
+
+    private static void apply(ByteBuffer payload, Map<UUID, MockEmployee> employees, Path file) throws IOException {
+        byte operation = payload.get();
+        switch (operation) {
+            case ADD -> {
+                int count = payload.getInt();
+                for (int i = 0; i < count; i++) {
+                    MockEmployee employee = EmployeeRecordCodec.read(payload);
+                    employees.put(employee.getId(), employee);
+                }
+            }
+            case REMOVE -> employees.remove(EmployeeRecordCodec.readId(payload));
+            default -> throw new IOException("Unknown mutation " + operation + " in " + file);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(file + " is too large to map: " + size + " bytes");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(file + " is too large to read: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new IOException(file + " ended at " + buffer.position() + " of " + size + " bytes");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static FileChannel openLog(Path directory, long generation) throws IOException {
+        FileChannel channel = FileChannel.open(
+                logFile(directory, generation),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES)
+                    .putInt(LOG_MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+        return channel;
+    }
+
+    static Path logFile(Path directory, long generation) {
+        return directory.resolve(LOG_PREFIX + generation + LOG_SUFFIX);
+    }
+
+    /**
+     * Generations of the logs in {@code directory}, in ascending order.
+     */
+    static List<Long> logGenerations(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX))
+                    .map(name -> name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length()))
+                    .filter(generation -> !generation.isEmpty() && generation.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void deleteLogsBefore(Path directory, long generation) throws IOException {
+        for (long logGeneration : logGenerations(directory)) {
+            if (logGeneration < generation) {
+                Files.deleteIfExists(logFile(directory, logGeneration));
+            }
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close mutation log", e);
+        }
+    }
+
+    private record Snapshot(long firstLogGeneration, Map<UUID, MockEmployee> employees) {}
+}
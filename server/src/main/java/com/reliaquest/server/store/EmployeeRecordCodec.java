@@ -0,0 +1,76 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary form of a {@link MockEmployee} shared by the snapshot file and the mutation log of
+ * {@link DurableMockEmployeeStore}: the id as two longs, salary and age as ints ({@link Integer#MIN_VALUE} for
+ * {@code null}), then name, title and email as an int byte length ({@code -1} for {@code null}) and UTF-8 bytes. All
+ * numbers are big-endian, as both {@link DataOutput} and {@link ByteBuffer} write them by default.
+ */
+final class EmployeeRecordCodec {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    private EmployeeRecordCodec() {}
+
+    static void write(DataOutput out, MockEmployee employee) throws IOException {
+        writeId(out, employee.getId());
+        out.writeInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee read(ByteBuffer in) {
+        UUID id = readId(in);
+        int salary = in.getInt();
+        int age = in.getInt();
+        return new MockEmployee(
+                id,
+                readString(in),
+                salary == NULL_INT ? null : salary,
+                age == NULL_INT ? null : age,
+                readString(in),
+                readString(in));
+    }
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalStateException("Corrupt string length " + length + " at position " + in.position());
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
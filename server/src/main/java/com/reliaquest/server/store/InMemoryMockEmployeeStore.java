@@ -0,0 +1,153 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heap store with O(1) lookup by id, and lookup by case-insensitive name in O(log k) for k employees sharing the name.
+ * Each id keeps the position in store order it was first added at, also when the employee is replaced, and employees
+ * with the same name are indexed by that position.
+ *
+ * <p>Writers serialize on a single lock; {@link #findById} reads a concurrent map and {@link #snapshot} an immutable
+ * list, so neither takes the lock once that list has been built. The list is rebuilt lazily by the first reader after a
+ * mutation, so a burst of writes costs one copy rather than one per write.
+ */
+public class InMemoryMockEmployeeStore implements MockEmployeeStore {
+
+    private final Object lock = new Object();
+
+    // Guarded by lock: insertion order is the store order.
+    private final Map<UUID, MockEmployee> ordered = new LinkedHashMap<>();
+    // Guarded by lock: id -> position in store order, and the position the next new id gets.
+    private final Map<UUID, Long> positions = new HashMap<>();
+    private long nextPosition;
+    // Guarded by lock: folded name -> employees with that name by position.
+    private final Map<String, NavigableMap<Long, MockEmployee>> byName = new HashMap<>();
+
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    // Null whenever a mutation has happened since it was last built.
+    private volatile List<MockEmployee> snapshot;
+
+    public InMemoryMockEmployeeStore(Collection<MockEmployee> employees) {
+        synchronized (lock) {
+            employees.forEach(this::addLocked);
+        }
+    }
+
+    @Override
+    public List<MockEmployee> snapshot() {
+        List<MockEmployee> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(ordered.values());
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        synchronized (lock) {
+            addLocked(employee);
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        employees.forEach(InMemoryMockEmployeeStore::requireId);
+        synchronized (lock) {
+            employees.forEach(this::addLocked);
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name) {
+        synchronized (lock) {
+            NavigableMap<Long, MockEmployee> sameName = byName.get(foldCase(name));
+            return sameName == null ? Optional.empty() : Optional.of(sameName.firstEntry().getValue());
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        synchronized (lock) {
+            NavigableMap<Long, MockEmployee> sameName = byName.get(foldCase(name));
+            if (sameName == null) {
+                return Optional.empty();
+            }
+            MockEmployee removed = sameName.firstEntry().getValue();
+            removeFromNameIndex(removed);
+            positions.remove(removed.getId());
+            ordered.remove(removed.getId());
+            byId.remove(removed.getId(), removed);
+            snapshot = null;
+            return Optional.of(removed);
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return ordered.size();
+        }
+    }
+
+    private void addLocked(MockEmployee employee) {
+        requireId(employee);
+        MockEmployee replaced = ordered.put(employee.getId(), employee);
+        if (replaced != null && replaced.getName() != null) {
+            removeFromNameIndex(replaced);
+        }
+        Long position = positions.computeIfAbsent(employee.getId(), ignored -> nextPosition++);
+        byId.put(employee.getId(), employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(foldCase(employee.getName()), ignored -> new TreeMap<>())
+                    .put(position, employee);
+        }
+    }
+
+    private static void requireId(MockEmployee employee) {
+        if (employee.getId() == null) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+    }
+
+    private void removeFromNameIndex(MockEmployee employee) {
+        String key = foldCase(employee.getName());
+        NavigableMap<Long, MockEmployee> sameName = byName.get(key);
+        sameName.remove(positions.get(employee.getId()));
+        if (sameName.isEmpty()) {
+            byName.remove(key);
+        }
+    }
+
+    /**
+     * Maps a name to a key shared by every name that {@link String#equalsIgnoreCase} considers equal to it.
+     */
+    static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Thread-safe storage behind {@link com.reliaquest.server.service.MockEmployeeService}. Employees keep the order they
+ * were added in; that order is what listings return and what decides which employee a delete by name removes.
+ */
+public interface MockEmployeeStore {
+
+    /**
+     * Consistent, immutable view of every employee, safe to iterate while other threads mutate the store.
+     */
+    List<MockEmployee> snapshot();
+
+    Optional<MockEmployee> findById(UUID id);
+
+    void add(MockEmployee employee);
+
+    /**
+     * Appends every employee, in order, as one atomic step: readers see either none of them or all of them, and an
+     * invalid employee rejects the whole batch.
+     */
+    void addAll(List<MockEmployee> employees);
+
+    /**
+     * Returns the employee {@link #removeFirstByName} would remove for {@code name}, without removing it.
+     */
+    Optional<MockEmployee> findFirstByName(String name);
+
+    /**
+     * Removes the first employee, in store order, whose name equals {@code name} ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    int size();
+}
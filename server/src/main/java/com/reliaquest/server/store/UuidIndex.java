@@ -0,0 +1,110 @@
+package com.reliaquest.server.store;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a UUID, held as its two longs, to an int row, with no object per entry. Linear probing
+ * with backward-shift deletion, so removals leave no tombstones behind. Not thread-safe.
+ */
+final class UuidIndex {
+
+    static final int NO_ROW = -1;
+
+    private long[] highs;
+    private long[] lows;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    UuidIndex(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    int get(long high, long low) {
+        for (int slot = slot(high, low); rows[slot] != NO_ROW; slot = (slot + 1) & mask) {
+            if (highs[slot] == high && lows[slot] == low) {
+                return rows[slot];
+            }
+        }
+        return NO_ROW;
+    }
+
+    void put(long high, long low, int row) {
+        if ((size + 1) * 2L > rows.length) {
+            resize(rows.length * 2);
+        }
+        int slot = slot(high, low);
+        while (rows[slot] != NO_ROW) {
+            if (highs[slot] == high && lows[slot] == low) {
+                rows[slot] = row;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        highs[slot] = high;
+        lows[slot] = low;
+        rows[slot] = row;
+        size++;
+    }
+
+    void remove(long high, long low) {
+        int gap = slot(high, low);
+        while (rows[gap] != NO_ROW && (highs[gap] != high || lows[gap] != low)) {
+            gap = (gap + 1) & mask;
+        }
+        if (rows[gap] == NO_ROW) {
+            return;
+        }
+        // Pull back every later entry of the probe run that may not sit after the gap.
+        for (int slot = (gap + 1) & mask; rows[slot] != NO_ROW; slot = (slot + 1) & mask) {
+            int home = slot(highs[slot], lows[slot]);
+            boolean reachable = gap < slot ? home > gap && home <= slot : home > gap || home <= slot;
+            if (!reachable) {
+                highs[gap] = highs[slot];
+                lows[gap] = lows[slot];
+                rows[gap] = rows[slot];
+                gap = slot;
+            }
+        }
+        rows[gap] = NO_ROW;
+        size--;
+    }
+
+    long memoryBytes() {
+        return (long) rows.length * (2 * Long.BYTES + Integer.BYTES);
+    }
+
+    private void resize(int tableSize) {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        int[] oldRows = rows;
+        allocate(tableSize);
+        size = 0;
+        for (int slot = 0; slot < oldRows.length; slot++) {
+            if (oldRows[slot] != NO_ROW) {
+                put(oldHighs[slot], oldLows[slot], oldRows[slot]);
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        highs = new long[tableSize];
+        lows = new long[tableSize];
+        rows = new int[tableSize];
+        Arrays.fill(rows, NO_ROW);
+        mask = tableSize - 1;
+    }
+
+    private int slot(long high, long low) {
+        long hash = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSize(int expectedSize) {
+        int tableSize = 16;
+        while (tableSize < expectedSize * 2L) {
+            tableSize <<= 1;
+        }
+        return tableSize;
+    }
+}
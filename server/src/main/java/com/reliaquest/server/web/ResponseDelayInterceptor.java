@@ -0,0 +1,26 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Holds every request for a fixed time before it is handled, simulating a slow upstream. The request thread blocks
+ * for the delay, which is exactly the cost the virtual-thread mode is meant to make cheap.
+ */
+public class ResponseDelayInterceptor implements HandlerInterceptor {
+
+    private final Duration delay;
+
+    public ResponseDelayInterceptor(Duration delay) {
+        this.delay = delay;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        Thread.sleep(delay);
+        return true;
+    }
+}
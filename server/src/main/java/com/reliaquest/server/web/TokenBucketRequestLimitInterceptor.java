@@ -0,0 +1,139 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Limits each client to {@code requestsPerSecond} with bursts of up to {@code burst} requests, answering 429 with a
+ * {@code Retry-After} header once its bucket is empty. Clients are told apart by the {@code clientHeader} request
+ * header when it is configured and present, and by remote address otherwise.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the time at which it will be full again (the generic cell rate
+ * algorithm), updated by compare-and-set, and buckets live in a {@link ConcurrentHashMap}. A request therefore reads
+ * the clock once and takes no lock unless its client is new. Once {@value #MAX_CLIENTS} clients are tracked, full
+ * buckets are dropped, which loses nothing because a new bucket starts full. One new client at a time does that sweep,
+ * and not again before the earliest bucket it kept can have filled up; new clients that find the map still full share
+ * a single overflow bucket until a sweep makes room.
+ */
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    static final int MAX_CLIENTS = 100_000;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final String clientHeader;
+    private final LongSupplier nanoTime;
+    private final int maxClients;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweepAt;
+
+    public TokenBucketRequestLimitInterceptor(double requestsPerSecond, int burst, String clientHeader) {
+        this(requestsPerSecond, burst, clientHeader, System::nanoTime, MAX_CLIENTS);
+    }
+
+    TokenBucketRequestLimitInterceptor(
+            double requestsPerSecond, int burst, String clientHeader, LongSupplier nanoTime, int maxClients) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.nanoTime = nanoTime;
+        this.maxClients = maxClients;
+        long now = nanoTime.getAsLong();
+        this.overflow = new AtomicLong(now);
+        this.nextSweepAt = now;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = nanoTime.getAsLong();
+        long waitNanos = acquire(bucket(clientKey(request), now), now);
+        if (waitNanos <= 0) {
+            return true;
+        }
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + second - 1) / second);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return false;
+    }
+
+    /**
+     * Takes one request's worth from the bucket.
+     *
+     * @return zero if the request may proceed, otherwise how long until it would have
+     */
+    private long acquire(AtomicLong bucket, long now) {
+        while (true) {
+            long fullAt = bucket.get();
+            // Compared by difference, as nanoTime values may overflow.
+            long next = (fullAt - now > 0 ? fullAt : now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            sweep(now);
+            if (buckets.size() >= maxClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+    }
+
+    private void sweep(long now) {
+        if (now - nextSweepAt < 0 || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // No bucket is further from full than one burst.
+            long earliestFullAt = now + burstNanos;
+            for (Iterator<AtomicLong> it = buckets.values().iterator(); it.hasNext(); ) {
+                long fullAt = it.next().get();
+                if (fullAt - now <= 0) {
+                    it.remove();
+                } else if (fullAt - earliestFullAt < 0) {
+                    earliestFullAt = fullAt;
+                }
+            }
+            nextSweepAt = earliestFullAt;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (clientHeader != null) {
+            String key = request.getHeader(clientHeader);
+            if (key != null && !key.isBlank()) {
+                return key;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
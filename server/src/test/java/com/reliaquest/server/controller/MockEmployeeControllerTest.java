@@ -0,0 +1,121 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public class MockEmployeeControllerTest {
+
+    private final MockEmployee tiger =
+            new MockEmployee(UUID.randomUUID(), "Tiger Nixon", 320_800, 61, "Vice Chair Executive Principal", null);
+    private final MockEmployeeService service =
+            new MockEmployeeService(new Faker(Locale.ENGLISH), new InMemoryMockEmployeeStore(List.of(tiger)));
+    private final MockEmployeeController controller = new MockEmployeeController(
+            service,
+            null,
+            new MockEmployeeListCache(
+                    service, new ObjectMapper(), new ObjectMapper(new SmileFactory()), new Compression()));
+
+    @Test
+    void testListIsNotModifiedUntilDataChanges() throws IOException {
+        String etag = controller.getEmployees(get(null)).getHeaders().getETag();
+        assertNotNull(etag);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertNull(controller.getEmployees(get(etag, response)));
+        assertEquals(304, response.getStatus());
+
+        controller.createEmployee(input("Bill Bob"));
+        var changed = controller.getEmployees(get(etag));
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertEquals(2, new ObjectMapper().readTree(changed.getBody()).get("data").size());
+    }
+
+    @Test
+    void testChangesSinceListVersionReplayLaterMutations() {
+        var list = controller.getEmployees(get(null));
+        long version = Long.parseLong(list.getHeaders().getFirst(MockEmployeeController.DATA_VERSION_HEADER));
+
+        MockEmployee created = controller.createEmployee(input("Bill Bob")).data();
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName(tiger.getName());
+        controller.deleteEmployee(delete);
+
+        MockEmployeeChanges changes = controller.getChanges(version).data();
+        assertFalse(changes.resyncRequired());
+        assertEquals(service.getDataVersion(), changes.version());
+        assertEquals(
+                List.of(MockEmployeeChange.Type.CREATED, MockEmployeeChange.Type.DELETED),
+                changes.changes().stream().map(MockEmployeeChange::type).toList());
+        assertEquals(created, changes.changes().get(0).employee());
+        assertEquals(tiger, changes.changes().get(1).employee());
+        assertTrue(controller.getChanges(version - 1).data().resyncRequired());
+    }
+
+    @Test
+    void testOnlyDeletesThatRemoveAnEmployeeChangeTheVersion() {
+        long before = service.getDataVersion();
+        DeleteMockEmployeeInput missing = new DeleteMockEmployeeInput();
+        missing.setName("Nobody");
+        DeleteMockEmployeeInput existing = new DeleteMockEmployeeInput();
+        existing.setName("tiger nixon");
+
+        assertFalse(controller.deleteEmployee(missing).data());
+        assertEquals(before, service.getDataVersion());
+        assertTrue(controller.deleteEmployee(existing).data());
+        assertTrue(service.getDataVersion() > before);
+    }
+
+    @Test
+    void testByIdReportsDeletedEmployeeAsNotFoundRatherThanNotModified() {
+        String etag = controller.getEmployee(tiger.getId(), get(null)).getHeaders().getETag();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertNull(controller.getEmployee(tiger.getId(), get(etag, response)));
+        assertEquals(304, response.getStatus());
+
+        DeleteMockEmployeeInput delete = new DeleteMockEmployeeInput();
+        delete.setName(tiger.getName());
+        controller.deleteEmployee(delete);
+        assertEquals(404, controller.getEmployee(tiger.getId(), get(etag)).getStatusCode().value());
+    }
+
+    private static ServletWebRequest get(String ifNoneMatch) {
+        return get(ifNoneMatch, new MockHttpServletResponse());
+    }
+
+    private static ServletWebRequest get(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.InMemoryMockEmployeeStore;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+public class MockEmployeeListCacheTest {
+
+    private final MockEmployee tiger =
+            new MockEmployee(UUID.randomUUID(), "Tiger Nixon", 320_800, 61, "Vice Chair Executive Principal", null);
+    private final MockEmployeeService service =
+            new MockEmployeeService(new Faker(Locale.ENGLISH), new InMemoryMockEmployeeStore(List.of(tiger)));
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Test
+    void testEncodesOncePerDataVersion() throws IOException {
+        MockEmployeeListCache cache = new MockEmployeeListCache(service, objectMapper, smileMapper, compression(0));
+
+        MockEmployeeListCache.EncodedList first = cache.get(null);
+        assertSame(first, cache.get(new String[] {"application/json"}));
+        assertEquals(service.getDataVersion(), first.version());
+        assertEquals(1, objectMapper.readTree(first.body()).get("data").size());
+
+        service.create(input("Bill Bob"));
+        MockEmployeeListCache.EncodedList changed = cache.get(null);
+        assertNotSame(first, changed);
+        assertEquals(service.getDataVersion(), changed.version());
+        assertEquals(2, objectMapper.readTree(changed.body()).get("data").size());
+    }
+
+    @Test
+    void testKeepsEachFormatWithItsGzippedCopy() throws IOException {
+        MockEmployeeListCache cache = new MockEmployeeListCache(service, objectMapper, smileMapper, compression(0));
+
+        MockEmployeeListCache.EncodedList json = cache.get(new String[] {"application/json"});
+        assertEquals(MediaType.APPLICATION_JSON, json.mediaType());
+        assertArrayEquals(json.body(), gunzip(json.gzipped()));
+
+        MockEmployeeListCache.EncodedList smile = cache.get(new String[] {"application/x-jackson-smile"});
+        assertEquals(MockEmployeeListCache.APPLICATION_SMILE, smile.mediaType());
+        assertEquals(objectMapper.readTree(json.body()), smileMapper.readTree(smile.body()));
+        // Smile is not among the default compression mime types.
+        assertNull(smile.gzipped());
+    }
+
+    @Test
+    void testLeavesResponsesUnderMinimumSizeUncompressed() {
+        Compression oneMegabyte = compression(1 << 20);
+        assertNull(new MockEmployeeListCache(service, objectMapper, smileMapper, oneMegabyte).get(null).gzipped());
+
+        Compression disabled = compression(0);
+        disabled.setEnabled(false);
+        assertNull(new MockEmployeeListCache(service, objectMapper, smileMapper, disabled).get(null).gzipped());
+    }
+
+    @Test
+    void testNegotiatesSmileOnlyWhenPreferred() {
+        MediaType smile = MockEmployeeListCache.APPLICATION_SMILE;
+        assertEquals(MediaType.APPLICATION_JSON, MockEmployeeListCache.negotiate(null));
+        assertEquals(MediaType.APPLICATION_JSON, MockEmployeeListCache.negotiate(new String[] {"*/*"}));
+        assertEquals(smile, MockEmployeeListCache.negotiate(new String[] {"application/x-jackson-smile, */*"}));
+        assertEquals(
+                MediaType.APPLICATION_JSON,
+                MockEmployeeListCache.negotiate(new String[] {"application/json, application/x-jackson-smile"}));
+        assertEquals(
+                MediaType.APPLICATION_JSON,
+                MockEmployeeListCache.negotiate(
+                        new String[] {"application/x-jackson-smile;q=0.5", "application/json;q=0.9"}));
+        assertEquals(MediaType.APPLICATION_JSON, MockEmployeeListCache.negotiate(new String[] {"not a media type"}));
+    }
+
+    @Test
+    void testAcceptsGzipUnlessRuledOut() {
+        assertTrue(MockEmployeeListCache.acceptsGzip(new String[] {"gzip, deflate, br"}));
+        assertTrue(MockEmployeeListCache.acceptsGzip(new String[] {"br;q=1.0, GZIP;q=0.5"}));
+        assertFalse(MockEmployeeListCache.acceptsGzip(new String[] {"gzip;q=0, identity"}));
+        assertFalse(MockEmployeeListCache.acceptsGzip(new String[] {"deflate"}));
+        assertFalse(MockEmployeeListCache.acceptsGzip(null));
+    }
+
+    private static Compression compression(long minResponseBytes) {
+        Compression compression = new Compression();
+        compression.setEnabled(true);
+        compression.setMinResponseSize(DataSize.ofBytes(minResponseBytes));
+        return compression;
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.seed;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+public class MockEmployeeSeederTest {
+
+    @Test
+    void testSameSeedGeneratesSameEmployees() {
+        List<MockEmployee> first = new MockEmployeeSeeder(42, Locale.ENGLISH, 100).generate(1_050);
+        List<MockEmployee> second = new MockEmployeeSeeder(42, Locale.ENGLISH, 100).generate(1_050);
+
+        assertEquals(1_050, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testDifferentSeedsGenerateDifferentEmployees() {
+        List<MockEmployee> first = new MockEmployeeSeeder(42, Locale.ENGLISH, 100).generate(10);
+        List<MockEmployee> second = new MockEmployeeSeeder(43, Locale.ENGLISH, 100).generate(10);
+
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+    }
+
+    @Test
+    void testGeneratesCompleteEmployeesWithDistinctVersionFourIds() {
+        List<MockEmployee> employees = new MockEmployeeSeeder(7, Locale.ENGLISH, 100).generate(1_000);
+
+        assertEquals(1_000, employees.stream().map(MockEmployee::getId).distinct().count());
+        for (MockEmployee employee : employees) {
+            assertEquals(4, employee.getId().version());
+            assertFalse(employee.getName().isBlank());
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+            assertNotNull(employee.getTitle());
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+    }
+
+    @Test
+    void testGeneratesNothingForZeroCount() {
+        assertTrue(new MockEmployeeSeeder(1, Locale.ENGLISH).generate(0).isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class MockEmployeeChangeLogTest {
+
+    @Test
+    void testReturnsOnlyChangesAfterVersionInOrder() {
+        MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(10, 100);
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee third = employee("Jill Jenkins");
+
+        assertEquals(101, changeLog.append(MockEmployeeChange.Type.CREATED, List.of(first)));
+        assertEquals(102, changeLog.append(MockEmployeeChange.Type.CREATED, List.of(second, third)));
+        assertEquals(103, changeLog.append(MockEmployeeChange.Type.DELETED, List.of(first)));
+
+        MockEmployeeChanges changes = changeLog.since(101);
+        assertFalse(changes.resyncRequired());
+        assertEquals(103, changes.version());
+        assertEquals(
+                List.of(
+                        new MockEmployeeChange(102, MockEmployeeChange.Type.CREATED, second),
+                        new MockEmployeeChange(102, MockEmployeeChange.Type.CREATED, third),
+                        new MockEmployeeChange(103, MockEmployeeChange.Type.DELETED, first)),
+                changes.changes());
+        assertEquals(4, changeLog.since(100).changes().size());
+        assertTrue(changeLog.since(103).changes().isEmpty());
+    }
+
+    @Test
+    void testVersionsOutsideTheBufferRequireResync() {
+        MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(2, 100);
+        for (int i = 0; i < 3; i++) {
+            changeLog.append(MockEmployeeChange.Type.CREATED, List.of(employee("Employee " + i)));
+        }
+
+        assertTrue(changeLog.since(100).resyncRequired());
+        assertEquals(2, changeLog.since(101).changes().size());
+        assertTrue(changeLog.since(104).resyncRequired());
+        assertEquals(103, changeLog.since(104).version());
+    }
+
+    @Test
+    void testBulkCreateLargerThanBufferRequiresResync() {
+        MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(2, 100);
+
+        changeLog.append(MockEmployeeChange.Type.CREATED, List.of(employee("A"), employee("B"), employee("C")));
+
+        assertTrue(changeLog.since(100).resyncRequired());
+        assertFalse(changeLog.since(101).resyncRequired());
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
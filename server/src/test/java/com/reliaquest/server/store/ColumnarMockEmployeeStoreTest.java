@@ -0,0 +1,185 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class ColumnarMockEmployeeStoreTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testFindsByIdAndKeepsInsertionOrder(boolean offHeap) {
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = new MockEmployee(UUID.randomUUID(), "Jürgen Müller", null, null, null, null);
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(first, second), offHeap);
+
+        assertEquals(List.of(first, second), store.snapshot());
+        assertEquals(second, store.findById(second.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void testRemovesFirstEmployeeWithMatchingNameIgnoringCase() {
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee other = employee("Jill Jenkins");
+        MockEmployee second = employee("BILL BOB");
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(first, other, second));
+
+        assertEquals(first, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(first, store.removeFirstByName("bill bob").orElseThrow());
+        assertEquals(second, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(second, store.removeFirstByName("Bill Bob").orElseThrow());
+        assertTrue(store.findFirstByName("bill bob").isEmpty());
+        assertTrue(store.removeFirstByName("bill bob").isEmpty());
+        assertEquals(List.of(other), store.snapshot());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testAddAllIsAllOrNothing() {
+        MockEmployee existing = employee("Tiger Nixon");
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(existing));
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee withoutId = new MockEmployee(null, "No Id", 1, 30, "Engineer", "no.id@company.com");
+
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(first, withoutId)));
+        assertEquals(List.of(existing), store.snapshot());
+    }
+
+    @Test
+    void testReaddedIdReplacesEmployeeInPlace() {
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(first, second));
+        List<MockEmployee> before = store.snapshot();
+        MockEmployee renamed = first.toBuilder().name("Tiger King").build();
+
+        store.add(renamed);
+        store.add(renamed.toBuilder().salary(1).build());
+        store.add(renamed);
+
+        assertEquals(List.of(first, second), before);
+        assertEquals(List.of(renamed, second), store.snapshot());
+        assertEquals(renamed, store.findById(first.getId()).orElseThrow());
+        assertTrue(store.removeFirstByName("tiger nixon").isEmpty());
+        assertEquals(renamed, store.removeFirstByName("tiger king").orElseThrow());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testReplacedEmployeeKeepsItsPlaceAmongSameNamedOnes(boolean offHeap) {
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee renamed = employee("Jill Jenkins");
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(first, renamed, second), offHeap);
+        MockEmployee replacement = first.toBuilder().salary(1).build();
+
+        store.add(replacement);
+        store.add(renamed.toBuilder().name("BILL BOB").build());
+
+        assertEquals(replacement, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(replacement, store.removeFirstByName("bill bob").orElseThrow());
+        assertEquals(renamed.getId(), store.removeFirstByName("bill bob").orElseThrow().getId());
+        assertEquals(second, store.removeFirstByName("bill bob").orElseThrow());
+        assertTrue(store.findFirstByName("jill jenkins").isEmpty());
+    }
+
+    @Test
+    void testRepeatedReplacesAreCompacted() {
+        MockEmployee employee = employee("Tiger Nixon");
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of(employee));
+        long memoryBytes = store.memoryBytes();
+
+        for (int salary = 0; salary < 5_000; salary++) {
+            store.add(employee.toBuilder().salary(salary).build());
+        }
+
+        assertEquals(memoryBytes, store.memoryBytes());
+        assertEquals(List.of(employee.toBuilder().salary(4_999).build()), store.snapshot());
+        assertEquals(4_999, store.findFirstByName("tiger nixon").orElseThrow().getSalary());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testSnapshotsSurviveGrowthAndCompaction(boolean offHeap) {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(employees.subList(0, 10), offHeap);
+        store.addAll(employees.subList(10, employees.size()));
+        List<MockEmployee> before = store.snapshot();
+
+        // Removing two thirds of the rows compacts the columns along the way.
+        for (int i = 0; i < 2_000; i++) {
+            assertTrue(store.removeFirstByName("employee " + i).isPresent());
+        }
+
+        assertEquals(employees, before);
+        assertEquals(employees.subList(2_000, 3_000), store.snapshot());
+        assertEquals(employees.get(2_500), store.findById(employees.get(2_500).getId()).orElseThrow());
+        assertTrue(store.findById(employees.get(1_500).getId()).isEmpty());
+        assertEquals(employees.get(2_999), store.removeFirstByName("EMPLOYEE 2999").orElseThrow());
+    }
+
+    @Test
+    void testConcurrentWritersAndReadersStayConsistent() throws Exception {
+        ColumnarMockEmployeeStore store = new ColumnarMockEmployeeStore(List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int id = writer;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        store.add(employee("Employee " + id + "-" + i));
+                        if (i % 2 == 0) {
+                            store.removeFirstByName("employee " + id + "-" + i);
+                        }
+                    }
+                }));
+            }
+            for (int reader = 0; reader < 4; reader++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        store.snapshot().forEach(employee -> assertNotNull(employee.getName()));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2_000, store.size());
+        assertEquals(2_000, store.snapshot().size());
+    }
+
+    @Test
+    void testReportsColumnFootprint() {
+        List<MockEmployee> employees = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            employees.add(employee("Employee " + i));
+        }
+
+        long bytesPerEmployee = new ColumnarMockEmployeeStore(employees).memoryBytes() / employees.size();
+
+        assertTrue(bytesPerEmployee > 0 && bytesPerEmployee < 256, bytesPerEmployee + " bytes per employee");
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DurableMockEmployeeStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testReopenedStoreHasEveryMutation() throws Exception {
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee third = employee("Jill Jenkins");
+        MockEmployee withoutSalary = new MockEmployee(UUID.randomUUID(), "Ann Ng", null, null, null, null);
+        List<MockEmployee> expected;
+        try (DurableMockEmployeeStore store = open(List.of(first), 100)) {
+            store.add(second);
+            store.addAll(List.of(third, withoutSalary));
+            assertEquals(first, store.removeFirstByName("tiger nixon").orElseThrow());
+            expected = store.snapshot();
+        }
+
+        try (DurableMockEmployeeStore reopened = open(null, 100)) {
+            assertEquals(List.of(second, third, withoutSalary), reopened.snapshot());
+            assertEquals(expected, reopened.snapshot());
+            assertEquals(third, reopened.findById(third.getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void testCompactionReplacesCoveredLogs() throws Exception {
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee third = employee("Jill Jenkins");
+        try (DurableMockEmployeeStore store = open(List.of(), 2)) {
+            store.add(first);
+            store.add(second);
+        }
+        // The second add started a new log and a snapshot covering both adds, which replaced log 0.
+        assertEquals(List.of(1L), DurableMockEmployeeStore.logGenerations(directory));
+
+        try (DurableMockEmployeeStore reopened = open(null, 2)) {
+            assertEquals(List.of(first, second), reopened.snapshot());
+            reopened.add(third);
+            reopened.removeFirstByName("tiger nixon");
+        }
+        assertEquals(List.of(2L), DurableMockEmployeeStore.logGenerations(directory));
+
+        try (DurableMockEmployeeStore reopened = open(null, 2)) {
+            assertEquals(List.of(second, third), reopened.snapshot());
+        }
+    }
+
+    @Test
+    void testTornLogEntryIsDroppedOnReplay() throws Exception {
+        MockEmployee kept = employee("Bill Bob");
+        try (DurableMockEmployeeStore store = open(List.of(), 100)) {
+            store.add(kept);
+        }
+        Path log = DurableMockEmployeeStore.logFile(directory, 0);
+        // Length and checksum of an entry whose payload never made it to disk.
+        Files.write(log, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 1}, StandardOpenOption.APPEND);
+
+        MockEmployee added = employee("Jill Jenkins");
+        try (DurableMockEmployeeStore reopened = open(null, 100)) {
+            assertEquals(List.of(kept), reopened.snapshot());
+            reopened.add(added);
+        }
+        try (DurableMockEmployeeStore reopened = open(null, 100)) {
+            assertEquals(List.of(kept, added), reopened.snapshot());
+        }
+    }
+
+    @Test
+    void testRejectedEmployeeIsNotLogged() throws Exception {
+        MockEmployee withoutId = new MockEmployee(null, "No Id", 1, 30, "Engineer", "no.id@company.com");
+        try (DurableMockEmployeeStore store = open(List.of(), 100)) {
+            assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(employee("Bill Bob"), withoutId)));
+        }
+
+        try (DurableMockEmployeeStore reopened = open(null, 100)) {
+            assertTrue(reopened.snapshot().isEmpty());
+        }
+    }
+
+    @Test
+    void testMutationThatCannotBeLoggedIsNotApplied() throws Exception {
+        MockEmployee kept = employee("Bill Bob");
+        DurableMockEmployeeStore store = open(List.of(kept), 100);
+        store.close();
+
+        assertThrows(UncheckedIOException.class, () -> store.add(employee("Jill Jenkins")));
+        assertThrows(UncheckedIOException.class, () -> store.removeFirstByName("bill bob"));
+        assertEquals(List.of(kept), store.snapshot());
+    }
+
+    /*
+     * A null initial list fails the test if the store is unexpectedly seeded again.
+     */
+    private DurableMockEmployeeStore open(List<MockEmployee> initial, int compactAfter) throws IOException {
+        return DurableMockEmployeeStore.open(
+                directory,
+                InMemoryMockEmployeeStore::new,
+                () -> {
+                    assertNotNull(initial, "store was seeded again instead of being reopened");
+                    return initial;
+                },
+                compactAfter,
+                false);
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryMockEmployeeStoreTest {
+
+    @Test
+    void testFindsByIdAndKeepsInsertionOrder() {
+        MockEmployee first = employee("Tiger Nixon");
+        MockEmployee second = employee("Bill Bob");
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of(first, second));
+
+        assertEquals(List.of(first, second), store.snapshot());
+        assertEquals(second, store.findById(second.getId()).orElseThrow());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void testRemovesFirstEmployeeWithMatchingNameIgnoringCase() {
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee other = employee("Jill Jenkins");
+        MockEmployee second = employee("BILL BOB");
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of(first, other, second));
+
+        assertEquals(first, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(first, store.removeFirstByName("bill bob").orElseThrow());
+        assertEquals(second, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(second, store.removeFirstByName("Bill Bob").orElseThrow());
+        assertTrue(store.findFirstByName("bill bob").isEmpty());
+        assertTrue(store.removeFirstByName("bill bob").isEmpty());
+        assertEquals(List.of(other), store.snapshot());
+        assertTrue(store.findById(first.getId()).isEmpty());
+    }
+
+    @Test
+    void testReplacedEmployeeKeepsItsPlaceAmongSameNamedOnes() {
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee second = employee("Bill Bob");
+        MockEmployee renamed = employee("Jill Jenkins");
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of(first, renamed, second));
+        MockEmployee replacement = first.toBuilder().salary(1).build();
+
+        store.add(replacement);
+        store.add(renamed.toBuilder().name("BILL BOB").build());
+
+        assertEquals(replacement, store.findFirstByName("bill bob").orElseThrow());
+        assertEquals(replacement, store.removeFirstByName("bill bob").orElseThrow());
+        assertEquals(renamed.getId(), store.removeFirstByName("bill bob").orElseThrow().getId());
+        assertEquals(second, store.removeFirstByName("bill bob").orElseThrow());
+        assertTrue(store.findFirstByName("jill jenkins").isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsUnaffectedByLaterMutations() {
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of(employee("Tiger Nixon")));
+        List<MockEmployee> before = store.snapshot();
+
+        store.add(employee("Bill Bob"));
+
+        assertEquals(1, before.size());
+        assertEquals(2, store.snapshot().size());
+    }
+
+    @Test
+    void testAddAllIsAllOrNothing() {
+        MockEmployee existing = employee("Tiger Nixon");
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of(existing));
+        MockEmployee first = employee("Bill Bob");
+        MockEmployee second = employee("Jill Jenkins");
+        MockEmployee withoutId = new MockEmployee(null, "No Id", 1, 30, "Engineer", "no.id@company.com");
+
+        assertThrows(IllegalArgumentException.class, () -> store.addAll(List.of(first, withoutId)));
+        assertEquals(List.of(existing), store.snapshot());
+
+        store.addAll(List.of(first, second));
+        assertEquals(List.of(existing, first, second), store.snapshot());
+        assertEquals(second, store.removeFirstByName("jill jenkins").orElseThrow());
+    }
+
+    @Test
+    void testFoldCaseAgreesWithEqualsIgnoreCase() {
+        String[] names = {
+            "stra\u00dfe", "STRASSE", "\u01c4emal", "\u01c5emal", "\u01c6emal",
+            "\u0130lker", "ilker", "\u03a9mega", "\u03c9MEGA"
+        };
+        for (String left : names) {
+            for (String right : names) {
+                assertEquals(
+                        left.equalsIgnoreCase(right),
+                        InMemoryMockEmployeeStore.foldCase(left).equals(InMemoryMockEmployeeStore.foldCase(right)),
+                        left + " vs " + right);
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentWritersAndReadersStayConsistent() throws Exception {
+        InMemoryMockEmployeeStore store = new InMemoryMockEmployeeStore(List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int id = writer;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        store.add(employee("Employee " + id + "-" + i));
+                        if (i % 2 == 0) {
+                            store.removeFirstByName("employee " + id + "-" + i);
+                        }
+                    }
+                }));
+            }
+            for (int reader = 0; reader < 4; reader++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        store.snapshot().forEach(employee -> assertNotNull(employee.getId()));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2_000, store.size());
+        assertEquals(2_000, store.snapshot().size());
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class MockEmployeeStoreEnginesTest {
+
+    @Test
+    void testEnginesKeepStoreOrderAfterTheSameMutations() {
+        MockEmployeeStore heap = new InMemoryMockEmployeeStore(List.of());
+        MockEmployeeStore columnar = new ColumnarMockEmployeeStore(List.of());
+        MockEmployeeStore offHeap = new ColumnarMockEmployeeStore(List.of(), true);
+        List<MockEmployeeStore> engines = List.of(heap, columnar, offHeap);
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>();
+        // What every engine should hold: a replacement takes the old employee's index, and a removal by name takes the
+        // first employee with that name in this order.
+        List<MockEmployee> expected = new ArrayList<>();
+
+        // Enough rows to grow the columns and name buckets, and enough removals to compact them.
+        for (int step = 0; step < 20_000; step++) {
+            String name = "Employee " + random.nextInt(300);
+            int operation = random.nextInt(10);
+            if (operation < 4 || ids.isEmpty()) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                MockEmployee added = employee(id, name, step);
+                expected.add(added);
+                engines.forEach(engine -> engine.add(added));
+            } else if (operation < 7) {
+                // Re-adding an id, sometimes under another name, replaces that employee.
+                MockEmployee replacement = employee(ids.get(random.nextInt(ids.size())), name, step);
+                int index = indexOf(expected, replacement.getId());
+                if (index < 0) {
+                    expected.add(replacement);
+                } else {
+                    expected.set(index, replacement);
+                }
+                engines.forEach(engine -> engine.addAll(List.of(replacement)));
+            } else {
+                Optional<MockEmployee> removed = expected.stream()
+                        .filter(employee -> employee.getName().equalsIgnoreCase(name))
+                        .findFirst();
+                removed.ifPresent(expected::remove);
+                for (MockEmployeeStore engine : engines) {
+                    assertEquals(removed, engine.removeFirstByName(name), "step " + step);
+                }
+            }
+        }
+
+        for (MockEmployeeStore engine : engines) {
+            assertEquals(expected, engine.snapshot());
+            assertEquals(expected.size(), engine.size());
+        }
+    }
+
+    private static int indexOf(List<MockEmployee> employees, UUID id) {
+        for (int i = 0; i < employees.size(); i++) {
+            if (employees.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static MockEmployee employee(UUID id, String name, int salary) {
+        return new MockEmployee(id, name, salary, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class TokenBucketRequestLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong(Long.MAX_VALUE - Duration.ofSeconds(5).toNanos());
+
+    @Test
+    void testAllowsBurstThenRejectsWithRetryAfter() {
+        TokenBucketRequestLimitInterceptor limiter = limiter(0.5, 3, TokenBucketRequestLimitInterceptor.MAX_CLIENTS);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+        }
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(limiter.preHandle(request("10.0.0.1", null), rejected, null));
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    void testRefillsAtConfiguredRateAcrossClockOverflow() {
+        TokenBucketRequestLimitInterceptor limiter = limiter(1, 1, TokenBucketRequestLimitInterceptor.MAX_CLIENTS);
+
+        assertTrue(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+        assertFalse(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+
+        for (int second = 0; second < 10; second++) {
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertTrue(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+            assertFalse(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+        }
+    }
+
+    @Test
+    void testLimitsEachClientSeparately() {
+        TokenBucketRequestLimitInterceptor limiter = limiter(1, 1, TokenBucketRequestLimitInterceptor.MAX_CLIENTS);
+
+        assertTrue(limiter.preHandle(request("10.0.0.1", "a"), new MockHttpServletResponse(), null));
+        assertTrue(limiter.preHandle(request("10.0.0.1", "b"), new MockHttpServletResponse(), null));
+        assertTrue(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+        assertTrue(limiter.preHandle(request("10.0.0.2", null), new MockHttpServletResponse(), null));
+
+        assertFalse(limiter.preHandle(request("10.0.0.2", "a"), new MockHttpServletResponse(), null));
+        assertFalse(limiter.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void testNewClientsShareOneBucketWhileEveryTrackedClientIsLimited() {
+        TokenBucketRequestLimitInterceptor limiter = limiter(1, 1, 2);
+
+        assertTrue(limiter.preHandle(request("10.0.0.1", "a"), new MockHttpServletResponse(), null));
+        assertTrue(limiter.preHandle(request("10.0.0.1", "b"), new MockHttpServletResponse(), null));
+        // Neither tracked bucket is full, so nothing can be dropped for c and d.
+        assertTrue(limiter.preHandle(request("10.0.0.1", "c"), new MockHttpServletResponse(), null));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(limiter.preHandle(request("10.0.0.1", "d"), rejected, null));
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(limiter.preHandle(request("10.0.0.1", "d"), new MockHttpServletResponse(), null));
+        assertTrue(limiter.preHandle(request("10.0.0.1", "e"), new MockHttpServletResponse(), null));
+        assertFalse(limiter.preHandle(request("10.0.0.1", "d"), new MockHttpServletResponse(), null));
+    }
+
+    /*
+     * Clients are told apart by X-Client-Id when it is sent.
+     */
+    private TokenBucketRequestLimitInterceptor limiter(double requestsPerSecond, int burst, int maxClients) {
+        return new TokenBucketRequestLimitInterceptor(requestsPerSecond, burst, "X-Client-Id", now::get, maxClients);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}